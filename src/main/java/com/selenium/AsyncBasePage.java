@@ -0,0 +1,147 @@
+package com.selenium;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.By;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking variant of BasePage whose operations return CompletableFutures.
+ *
+ * A WebDriver session is not thread-safe, so operations on one driver are queued and run
+ * one after another on the executor in the order they were called, also across page
+ * objects sharing the driver (e.g. the next page navigating while reads on the previous
+ * one are still pending). The caller is never
+ * blocked, which lets one orchestrator thread pipeline work across many browser sessions.
+ */
+public class AsyncBasePage {
+    protected final BasePage page;
+    protected final Executor executor;
+
+    // Last queued operation per driver; a finished future no longer references its operation,
+    // so an idle driver can still be collected. Guarded by itself.
+    private static final Map<WebDriver, CompletableFuture<?>> TAILS = new WeakHashMap<>();
+
+    public AsyncBasePage(WebDriver driver, Executor executor) {
+        this(new BasePage(driver), executor);
+    }
+
+    /**
+     * Wrap an existing page object
+     * @param page The blocking page object to delegate to
+     * @param executor The executor that runs the blocking driver calls
+     */
+    protected AsyncBasePage(BasePage page, Executor executor) {
+        if (page == null) {
+            throw new IllegalArgumentException("page must not be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        this.page = page;
+        this.executor = executor;
+    }
+
+    /**
+     * Navigate to a specific URL
+     * @param url The URL to navigate to
+     * @return Future completed once navigation finished
+     */
+    public CompletableFuture<Void> navigateTo(String url) {
+        return run(() -> page.navigateTo(url));
+    }
+
+    /**
+     * Wait for an element to be visible and return it
+     * @param locator The locator for the element
+     * @return Future holding the WebElement once it's visible
+     */
+    public CompletableFuture<WebElement> waitForElement(By locator) {
+        return submit(() -> page.waitForElement(locator));
+    }
+
+    /**
+     * Click on an element after waiting for it to be clickable
+     * @param locator The locator for the element
+     * @return Future completed once the element was clicked
+     */
+    public CompletableFuture<Void> clickElement(By locator) {
+        return run(() -> page.clickElement(locator));
+    }
+
+    /**
+     * Enter text into an input field
+     * @param locator The locator for the input field
+     * @param text The text to enter
+     * @return Future completed once the text was entered
+     */
+    public CompletableFuture<Void> enterText(By locator, String text) {
+        return run(() -> page.enterText(locator, text));
+    }
+
+    /**
+     * Get the text content of an element
+     * @param locator The locator for the element
+     * @return Future holding the text content of the element
+     */
+    public CompletableFuture<String> getElementText(By locator) {
+        return submit(() -> page.getElementText(locator));
+    }
+
+    /**
+     * Check if an element is displayed
+     * @param locator The locator for the element
+     * @return Future holding true if element is displayed
+     */
+    public CompletableFuture<Boolean> isElementDisplayed(By locator) {
+        return submit(() -> page.isElementDisplayed(locator));
+    }
+
+    /**
+     * Get the current page title
+     * @return Future holding the page title
+     */
+    public CompletableFuture<String> getPageTitle() {
+        return submit(page::getPageTitle);
+    }
+
+    /**
+     * Get the blocking page object this async page delegates to
+     * @return The wrapped page object
+     */
+    public BasePage getPage() {
+        return page;
+    }
+
+    /**
+     * Queue an operation behind every operation already submitted for this page's driver.
+     * A failed operation fails only its own future; later operations still run.
+     * @param operation The blocking operation to run
+     * @return Future holding the operation result
+     */
+    protected <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        synchronized (TAILS) {
+            CompletableFuture<?> tail = TAILS.getOrDefault(page.driver, CompletableFuture.completedFuture(null));
+            CompletableFuture<T> next = tail.handle((result, error) -> null)
+                    .thenApplyAsync(ignored -> operation.get(), executor);
+            TAILS.put(page.driver, next);
+            return next;
+        }
+    }
+
+    /**
+     * Queue an operation that has no result
+     * @param operation The blocking operation to run
+     * @return Future completed once the operation finished
+     */
+    protected CompletableFuture<Void> run(Runnable operation) {
+        return submit(() -> {
+            operation.run();
+            return null;
+        });
+    }
+}
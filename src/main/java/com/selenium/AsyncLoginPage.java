@@ -0,0 +1,106 @@
+package com.selenium;
+
+import org.openqa.selenium.WebDriver;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking login page object built on AsyncBasePage
+ */
+public class AsyncLoginPage extends AsyncBasePage {
+    private final LoginPage loginPage;
+
+    public AsyncLoginPage(WebDriver driver, Executor executor) {
+        this(new LoginPage(driver), executor);
+    }
+
+    private AsyncLoginPage(LoginPage loginPage, Executor executor) {
+        super(loginPage, executor);
+        this.loginPage = loginPage;
+    }
+
+    /**
+     * Navigate to the login page
+     * @param baseUrl The base URL of the application
+     * @return Future completed once navigation finished
+     */
+    public CompletableFuture<Void> goToLoginPage(String baseUrl) {
+        return run(() -> loginPage.goToLoginPage(baseUrl));
+    }
+
+    /**
+     * Enter username in the username field
+     * @param username The username to enter
+     * @return Future completed once the username was entered
+     */
+    public CompletableFuture<Void> enterUsername(String username) {
+        return run(() -> loginPage.enterUsername(username));
+    }
+
+    /**
+     * Enter password in the password field
+     * @param password The password to enter
+     * @return Future completed once the password was entered
+     */
+    public CompletableFuture<Void> enterPassword(String password) {
+        return run(() -> loginPage.enterPassword(password));
+    }
+
+    /**
+     * Click the login button
+     * @return Future completed once the button was clicked
+     */
+    public CompletableFuture<Void> clickLoginButton() {
+        return run(loginPage::clickLoginButton);
+    }
+
+    /**
+     * Perform complete login action
+     * @param username The username
+     * @param password The password
+     * @return Future completed once the login form was submitted
+     */
+    public CompletableFuture<Void> login(String username, String password) {
+        return run(() -> loginPage.login(username, password));
+    }
+
+    /**
+     * Get error message text
+     * @return Future holding the error message text
+     */
+    public CompletableFuture<String> getErrorMessage() {
+        return submit(loginPage::getErrorMessage);
+    }
+
+    /**
+     * Check if error message is displayed
+     * @return Future holding true if error message is displayed
+     */
+    public CompletableFuture<Boolean> isErrorMessageDisplayed() {
+        return submit(loginPage::isErrorMessageDisplayed);
+    }
+
+    /**
+     * Get welcome message text
+     * @return Future holding the welcome message text
+     */
+    public CompletableFuture<String> getWelcomeMessage() {
+        return submit(loginPage::getWelcomeMessage);
+    }
+
+    /**
+     * Check if welcome message is displayed
+     * @return Future holding true if welcome message is displayed
+     */
+    public CompletableFuture<Boolean> isWelcomeMessageDisplayed() {
+        return submit(loginPage::isWelcomeMessageDisplayed);
+    }
+
+    /**
+     * Check if login button is enabled
+     * @return Future holding true if login button is enabled
+     */
+    public CompletableFuture<Boolean> isLoginButtonEnabled() {
+        return submit(loginPage::isLoginButtonEnabled);
+    }
+}
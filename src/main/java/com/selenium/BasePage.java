@@ -3,28 +3,165 @@ package com.selenium;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.support.ui.WebDriverWait;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Base page class that provides common functionality for all page objects
  */
 public class BasePage {
+    private static final AtomicLong FAILURE_SEQUENCE = new AtomicLong();
+    // Keeps artifact names unique across forks and runs sharing an artifact directory
+    private static final String FAILURE_RUN_ID =
+            ProcessHandle.current().pid() + "-" + Long.toString(System.currentTimeMillis(), 36);
+    
+    // Value of inputs/textareas/selects, visible text of anything else; null when missing
+    private static final String READ_VALUES_SCRIPT =
+            "return arguments[0].map(function (s) {"
+            + " var el = document.querySelector(s);"
+            + " if (!el) { return null; }"
+            + " return ('value' in el && el.tagName !== 'BUTTON') ? el.value : el.innerText; });";
+    
+    // Uses the native value setter so frameworks tracking the property see the change,
+    // then fires the events a user edit would
+    private static final String SET_VALUE_FUNCTION =
+            "function setValue(el, value) {"
+            + " var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(el), 'value');"
+            + " if (descriptor && descriptor.set) { descriptor.set.call(el, value); } else { el.value = value; }"
+            + " el.dispatchEvent(new Event('input', { bubbles: true }));"
+            + " el.dispatchEvent(new Event('change', { bubbles: true }));"
+            + "}";
+    
+    // Returns the first missing selector
+    private static final String FILL_VALUES_SCRIPT =
+            SET_VALUE_FUNCTION
+            + "var selectors = arguments[0], values = arguments[1];"
+            + "for (var i = 0; i < selectors.length; i++) {"
+            + " var el = document.querySelector(selectors[i]);"
+            + " if (!el) { return selectors[i]; }"
+            + " setValue(el, values[i]);"
+            + "}"
+            + "return null;";
+    
+    // Returns the resulting value, or null for fields typing must handle: anything but
+    // textareas and text-like inputs, and text longer than maxlength (which typing truncates)
+    private static final String INJECT_VALUE_SCRIPT =
+            SET_VALUE_FUNCTION
+            + "var el = arguments[0], value = arguments[1];"
+            + "var textInput = el.tagName === 'INPUT'"
+            + " && /^(text|search|email|url|tel|password)$/i.test(el.type);"
+            + "if (el.tagName !== 'TEXTAREA' && !textInput) { return null; }"
+            + "if (el.maxLength >= 0 && value.length > el.maxLength) { return null; }"
+            + "setValue(el, value);"
+            + "return el.value;";
+    
+    /**
+     * Text length from which the AUTO input strategy injects values instead of typing
+     */
+    public static final int DEFAULT_INJECTION_THRESHOLD = 256;
+    
+    // A retried element was there a moment ago, so re-locating it needs no full wait
+    private static final Duration RELOCATE_TIMEOUT = Duration.ofSeconds(2);
+    
     protected WebDriver driver;
     protected WebDriverWait wait;
+    private FailureArtifactWriter artifactWriter;
+    private LocatorProfiler locatorProfiler;
+    private RetryPolicy retryPolicy = RetryPolicy.none();
+    private RetryBudget retryBudget;
+    private PerformanceMonitor performanceMonitor;
+    private InputStrategy inputStrategy = InputStrategy.AUTO;
+    private int injectionThreshold = DEFAULT_INJECTION_THRESHOLD;
     
     public BasePage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
     }
     
+    /**
+     * Capture a screenshot and the page source whenever a wait times out
+     * @param artifactWriter The writer to hand captures to, or null to disable capturing
+     */
+    public void setFailureArtifactWriter(FailureArtifactWriter artifactWriter) {
+        this.artifactWriter = artifactWriter;
+    }
+    
+    /**
+     * Time every locator lookup and report slow or ambiguous locators
+     * @param locatorProfiler The profiler to record lookups in, or null to disable profiling
+     */
+    public void setLocatorProfiler(LocatorProfiler locatorProfiler) {
+        this.locatorProfiler = locatorProfiler;
+    }
+    
+    /**
+     * Retry transient failures of waitForElement, clickElement, enterText and getElementText
+     * @param retryPolicy The policy to apply, or null to disable retries
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy == null ? RetryPolicy.none() : retryPolicy;
+    }
+    
+    /**
+     * Limit the retries this page may spend; share one budget between the pages of a test
+     * @param retryBudget The budget to draw from, or null for no limit beyond the policy
+     */
+    public void setRetryBudget(RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+    
+    /**
+     * Record navigation timing and network requests of navigations and check the page budget
+     * @param performanceMonitor The monitor to report to, or null to disable measuring
+     */
+    public void setPerformanceMonitor(PerformanceMonitor performanceMonitor) {
+        this.performanceMonitor = performanceMonitor;
+    }
+    
+    /**
+     * Choose how enterText puts text into fields
+     * @param inputStrategy The strategy, or null for AUTO
+     */
+    public void setInputStrategy(InputStrategy inputStrategy) {
+        this.inputStrategy = inputStrategy == null ? InputStrategy.AUTO : inputStrategy;
+    }
+    
+    /**
+     * Set the text length from which the AUTO strategy injects values instead of typing
+     * @param injectionThreshold The threshold in characters
+     */
+    public void setInjectionThreshold(int injectionThreshold) {
+        if (injectionThreshold < 0) {
+            throw new IllegalArgumentException("injectionThreshold must not be negative: " + injectionThreshold);
+        }
+        this.injectionThreshold = injectionThreshold;
+    }
+    
     /**
      * Navigate to a specific URL
      * @param url The URL to navigate to
      */
     public void navigateTo(String url) {
-        driver.get(url);
+        long start = System.nanoTime();
+        try {
+            measured("navigateTo", () -> driver.get(url));
+        } finally {
+            recordOperation("navigateTo", start);
+        }
     }
     
     /**
@@ -33,7 +170,7 @@ public class BasePage {
      * @return The WebElement once it's visible
      */
     public WebElement waitForElement(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return withRetry("waitForElement", locator, attempt -> findVisible("waitForElement", locator, attempt));
     }
     
     /**
@@ -41,7 +178,11 @@ public class BasePage {
      * @param locator The locator for the element
      */
     public void clickElement(By locator) {
-        wait.until(ExpectedConditions.elementToBeClickable(locator)).click();
+        withRetry("clickElement", locator, attempt -> {
+            lookUp("clickElement", locator, attempt, "element to be clickable",
+                    element -> element.isDisplayed() && element.isEnabled()).click();
+            return null;
+        });
     }
     
     /**
@@ -50,9 +191,24 @@ public class BasePage {
      * @param text The text to enter
      */
     public void enterText(By locator, String text) {
-        WebElement element = waitForElement(locator);
-        element.clear();
-        element.sendKeys(text);
+        enterText(locator, text, inputStrategy);
+    }
+    
+    /**
+     * Enter text into an input field with a specific input strategy
+     * @param locator The locator for the input field
+     * @param text The text to enter
+     * @param strategy How to put the text into the field
+     */
+    public void enterText(By locator, String text, InputStrategy strategy) {
+        withRetry("enterText", locator, attempt -> {
+            WebElement element = findVisible("enterText", locator, attempt);
+            if (!injectValue(element, text, strategy)) {
+                element.clear();
+                element.sendKeys(text);
+            }
+            return null;
+        });
     }
     
     /**
@@ -61,7 +217,7 @@ public class BasePage {
      * @return The text content of the element
      */
     public String getElementText(By locator) {
-        return waitForElement(locator).getText();
+        return withRetry("getElementText", locator, attempt -> findVisible("getElementText", locator, attempt).getText());
     }
     
     /**
@@ -70,10 +226,17 @@ public class BasePage {
      * @return true if element is displayed, false otherwise
      */
     public boolean isElementDisplayed(By locator) {
+        long operationStart = System.nanoTime();
         try {
-            return driver.findElement(locator).isDisplayed();
+            By target = resolveLocator(locator);
+            long start = System.nanoTime();
+            WebElement element = driver.findElement(target);
+            recordLookup(locator, target, System.nanoTime() - start);
+            return element.isDisplayed();
         } catch (Exception e) {
             return false;
+        } finally {
+            recordOperation("isElementDisplayed", operationStart);
         }
     }
     
@@ -84,4 +247,305 @@ public class BasePage {
     public String getPageTitle() {
         return driver.getTitle();
     }
-}
\ No newline at end of file
+    
+    // Returns false when the text must be typed instead: by strategy, because the field
+    // cannot take an injected value, or because the field did not end up holding the text
+    private boolean injectValue(WebElement element, String text, InputStrategy strategy) {
+        if (text == null || strategy == InputStrategy.KEYSTROKES || !(driver instanceof JavascriptExecutor)) {
+            return false;
+        }
+        if ((strategy == null || strategy == InputStrategy.AUTO) && text.length() < injectionThreshold) {
+            return false;
+        }
+        Object value = ((JavascriptExecutor) driver).executeScript(INJECT_VALUE_SCRIPT, element, text);
+        return text.equals(value);
+    }
+    
+    // Single lookup attempt for a visible element, without retries
+    private WebElement findVisible(String operation, By locator, int attempt) {
+        return lookUp(operation, locator, attempt, "visibility of element", WebElement::isDisplayed);
+    }
+    
+    // Waits until the element is found and ready, with the full wait on the first attempt and
+    // a short one on retries. Only the successful findElement call is reported to the
+    // profiler, not the time spent polling before it. A wait that runs out is counted and
+    // leaves failure artifacts; timeouts of the driver commands themselves do not.
+    private WebElement lookUp(String operation, By locator, int attempt, String description,
+            Predicate<WebElement> ready) {
+        By target = resolveLocator(locator);
+        long[] lookupNanos = new long[1];
+        WebDriverWait lookupWait = attempt == 1 ? wait : new WebDriverWait(driver, RELOCATE_TIMEOUT);
+        ExpectedCondition<WebElement> condition = new ExpectedCondition<WebElement>() {
+            @Override
+            public WebElement apply(WebDriver d) {
+                long start = System.nanoTime();
+                WebElement found = d.findElement(target);
+                lookupNanos[0] = System.nanoTime() - start;
+                try {
+                    return ready.test(found) ? found : null;
+                } catch (StaleElementReferenceException e) {
+                    return null;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return description + " located by " + target;
+            }
+        };
+        WebElement element;
+        try {
+            element = lookupWait.until(condition);
+        } catch (TimeoutException e) {
+            SuiteMetrics.waitTimedOut();
+            captureFailureArtifacts(operation);
+            throw e;
+        }
+        recordLookup(locator, target, lookupNanos[0]);
+        return element;
+    }
+    
+    /**
+     * Read the value (inputs) or visible text (other elements) of several elements.
+     * Uses a single script round trip when the driver supports JavaScript.
+     * @param cssSelectors CSS selectors of the elements to read
+     * @return The values in selector order, null for elements that are missing
+     */
+    protected List<String> readValues(String... cssSelectors) {
+        if (driver instanceof JavascriptExecutor) {
+            Object result = ((JavascriptExecutor) driver).executeScript(READ_VALUES_SCRIPT, Arrays.asList(cssSelectors));
+            List<String> values = new ArrayList<>();
+            for (Object value : (List<?>) result) {
+                values.add(value == null ? null : value.toString());
+            }
+            return values;
+        }
+        List<String> values = new ArrayList<>();
+        for (String cssSelector : cssSelectors) {
+            List<WebElement> found = driver.findElements(By.cssSelector(cssSelector));
+            if (found.isEmpty()) {
+                values.add(null);
+            } else {
+                String value = found.get(0).getAttribute("value");
+                values.add(value != null ? value : found.get(0).getText());
+            }
+        }
+        return values;
+    }
+    
+    /**
+     * Fill several inputs after the first one is visible.
+     * Uses a single script round trip that sets each value and fires input/change events
+     * when the driver supports JavaScript, and falls back to enterText otherwise.
+     * @param cssSelectors CSS selectors of the inputs to fill
+     * @param values The values to enter, in selector order
+     */
+    protected void fillValues(String[] cssSelectors, String[] values) {
+        if (cssSelectors.length != values.length) {
+            throw new IllegalArgumentException("Expected " + cssSelectors.length + " values but got " + values.length);
+        }
+        if (cssSelectors.length == 0) {
+            return;
+        }
+        if (!(driver instanceof JavascriptExecutor)) {
+            for (int i = 0; i < cssSelectors.length; i++) {
+                enterText(By.cssSelector(cssSelectors[i]), values[i]);
+            }
+            return;
+        }
+        waitForElement(By.cssSelector(cssSelectors[0]));
+        Object missing = ((JavascriptExecutor) driver).executeScript(FILL_VALUES_SCRIPT,
+                Arrays.asList(cssSelectors), Arrays.asList(values));
+        if (missing != null) {
+            throw new NoSuchElementException("No element matches CSS selector: " + missing);
+        }
+    }
+    
+    /**
+     * Run a page action under the performance monitor, if one is configured
+     * @param action The action name reported with the metrics
+     * @param step The action itself
+     * @throws AssertionError if the action exceeded the page's performance budget
+     */
+    protected void measured(String action, Runnable step) {
+        PerformanceMonitor monitor = performanceMonitor;
+        if (monitor == null) {
+            step.run();
+            return;
+        }
+        PerformanceMonitor.Capture capture = monitor.start(driver);
+        boolean ran = false;
+        try {
+            step.run();
+            ran = true;
+        } finally {
+            // Once the step ran, finish closes the capture
+            if (!ran) {
+                capture.close();
+            }
+        }
+        monitor.finish(capture, getClass().getSimpleName(), action);
+    }
+    
+    /**
+     * Run a page action that submits a form under the performance monitor, if one is
+     * configured. The metrics are sampled once the browser left the current URL and the new
+     * document finished loading, or once one of the given elements shows up on the old page
+     * instead (e.g. an error message); if neither happens in time the action is sampled as is.
+     * @param action The action name reported with the metrics
+     * @param step The action itself
+     * @param stayedOn Locators of elements that show the action did not navigate
+     * @throws AssertionError if the action exceeded the page's performance budget
+     */
+    protected void measuredNavigation(String action, Runnable step, By... stayedOn) {
+        PerformanceMonitor monitor = performanceMonitor;
+        if (monitor == null) {
+            step.run();
+            return;
+        }
+        String previousUrl = driver.getCurrentUrl();
+        measured(action, () -> {
+            step.run();
+            try {
+                wait.until(d -> navigatedFrom(d, previousUrl) || anyDisplayed(d, stayedOn));
+            } catch (TimeoutException e) {
+                // Sample whatever the browser shows now
+            }
+        });
+    }
+    
+    private static boolean navigatedFrom(WebDriver d, String previousUrl) {
+        String url = d.getCurrentUrl();
+        if (url == null || url.equals(previousUrl)) {
+            return false;
+        }
+        return !(d instanceof JavascriptExecutor)
+                || "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState"));
+    }
+    
+    private static boolean anyDisplayed(WebDriver d, By... locators) {
+        for (By locator : locators) {
+            for (WebElement element : d.findElements(locator)) {
+                try {
+                    if (element.isDisplayed()) {
+                        return true;
+                    }
+                } catch (StaleElementReferenceException e) {
+                    // Replaced while checking; the next poll sees the new one
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Run an operation, retrying transient failures as allowed by the retry policy and budget.
+     * Every attempt locates the element again; timeouts are never retried, see RetryPolicy.
+     * The time of all attempts together is reported to OperationTimings and SuiteMetrics.
+     * @param operation The operation name
+     * @param locator The locator the operation works on
+     * @param action The operation itself
+     * @return The operation result
+     */
+    protected <T> T withRetry(String operation, By locator, Supplier<T> action) {
+        return withRetry(operation, locator, attempt -> action.get());
+    }
+    
+    // Same as above, passing the attempt number starting at 1 to the action
+    private <T> T withRetry(String operation, By locator, IntFunction<T> action) {
+        long start = System.nanoTime();
+        try {
+            return retry(locator, action);
+        } finally {
+            recordOperation(operation, start);
+        }
+    }
+    
+    private static void recordOperation(String operation, long start) {
+        long nanos = System.nanoTime() - start;
+        OperationTimings.record(operation, nanos);
+        SuiteMetrics.recordOperation(operation, nanos);
+    }
+    
+    private <T> T retry(By locator, IntFunction<T> action) {
+        RetryPolicy policy = retryPolicy;
+        int attempt = 1;
+        while (true) {
+            try {
+                return action.apply(attempt);
+            } catch (RuntimeException e) {
+                RetryBudget budget = retryBudget;
+                if (!policy.shouldRetry(e, attempt) || (budget != null && !budget.tryAcquire())) {
+                    throw e;
+                }
+                policy.recordRetry(locator);
+                long backoff = policy.backoffMillis(attempt);
+                if (backoff > 0) {
+                    try {
+                        Thread.sleep(backoff);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        throw e;
+                    }
+                }
+                attempt++;
+            }
+        }
+    }
+    
+    /**
+     * Get the locator to look up, which is a verified faster equivalent when profiling
+     * with auto-substitution enabled
+     * @param locator The locator as written in the page object
+     * @return The locator to use for the lookup
+     */
+    protected By resolveLocator(By locator) {
+        LocatorProfiler profiler = locatorProfiler;
+        if (profiler == null || locator == null) {
+            return locator;
+        }
+        return profiler.resolve(getClass().getSimpleName(), locator);
+    }
+    
+    /**
+     * Record a finished lookup with the profiler, if one is configured.
+     * Counting matches costs an extra findElements call, so it only happens while profiling.
+     * @param locator The locator as written in the page object
+     * @param target The locator that was actually used
+     * @param lookupNanos The time the lookup call itself took
+     */
+    protected void recordLookup(By locator, By target, long lookupNanos) {
+        LocatorProfiler profiler = locatorProfiler;
+        if (profiler != null) {
+            profiler.record(driver, getClass().getSimpleName(), locator, target, lookupNanos);
+        }
+    }
+    
+    /**
+     * Hand a screenshot and the page source to the artifact writer, if one is configured.
+     * Capture problems are swallowed so the original failure is the one reported.
+     * @param operation The operation that failed
+     */
+    protected void captureFailureArtifacts(String operation) {
+        FailureArtifactWriter writer = artifactWriter;
+        if (writer == null) {
+            return;
+        }
+        byte[] screenshot = null;
+        String pageSource = null;
+        try {
+            if (driver instanceof TakesScreenshot) {
+                screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            }
+        } catch (Exception e) {
+            // Screenshot is best effort
+        }
+        try {
+            pageSource = driver.getPageSource();
+        } catch (Exception e) {
+            // Page source is best effort
+        }
+        writer.submit(getClass().getSimpleName() + "-" + operation + "-" + FAILURE_RUN_ID + "-"
+                + FAILURE_SEQUENCE.incrementAndGet(), screenshot, pageSource);
+    }
+}
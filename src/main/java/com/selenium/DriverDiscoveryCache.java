@@ -0,0 +1,226 @@
+package com.selenium;
+
+import org.openqa.selenium.BuildInfo;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.manager.SeleniumManagerOutput;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Driver and browser binary locations, resolved once and cached on disk.
+ *
+ * Resolving through Selenium Manager on every driver start costs noticeable time on offline
+ * runners. This cache resolves each browser type at most once per JVM and persists the result.
+ * A persisted entry is reused only while the Selenium version is unchanged and the driver and
+ * browser files still have the size and modification time recorded when they were resolved,
+ * so driver or browser upgrades trigger a new resolution.
+ *
+ * The cache file defaults to ~/.cache/selenium/selenium-project-drivers.properties and can be
+ * moved with -Dwebdriver.discovery.cache=path.
+ */
+public class DriverDiscoveryCache {
+
+    public static final String CACHE_FILE_PROPERTY = "webdriver.discovery.cache";
+
+    private static final String SELENIUM_VERSION_KEY = "selenium.version";
+
+    /**
+     * Finds the binaries for a browser type, e.g. through Selenium Manager
+     */
+    @FunctionalInterface
+    public interface Resolver {
+        Resolution resolve(WebDriverFactory.BrowserType browserType);
+    }
+
+    /**
+     * Driver executable and, if Selenium Manager chose one, the browser binary
+     */
+    public static class Resolution {
+        private final String driverPath;
+        private final String browserPath;
+
+        public Resolution(String driverPath, String browserPath) {
+            if (driverPath == null || driverPath.isEmpty()) {
+                throw new IllegalArgumentException("driverPath must not be empty");
+            }
+            this.driverPath = driverPath;
+            this.browserPath = browserPath == null || browserPath.isEmpty() ? null : browserPath;
+        }
+
+        public String getDriverPath() {
+            return driverPath;
+        }
+
+        /**
+         * Get the browser binary
+         * @return The browser path, or null to let the driver find the browser
+         */
+        public String getBrowserPath() {
+            return browserPath;
+        }
+    }
+
+    private final Path cacheFile;
+    private final Resolver resolver;
+    private final String seleniumVersion;
+    private final Map<WebDriverFactory.BrowserType, Resolution> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Create a cache that resolves through Selenium Manager
+     */
+    public DriverDiscoveryCache() {
+        this(Paths.get(System.getProperty(CACHE_FILE_PROPERTY,
+                Paths.get(System.getProperty("user.home"), ".cache", "selenium",
+                        "selenium-project-drivers.properties").toString())),
+                DriverDiscoveryCache::seleniumManager, new BuildInfo().getReleaseLabel());
+    }
+
+    /**
+     * Create a cache
+     * @param cacheFile The properties file to persist resolutions in
+     * @param resolver Finds binaries that are not cached
+     * @param seleniumVersion The Selenium version persisted entries must match
+     */
+    public DriverDiscoveryCache(Path cacheFile, Resolver resolver, String seleniumVersion) {
+        if (cacheFile == null) {
+            throw new IllegalArgumentException("cacheFile must not be null");
+        }
+        if (resolver == null) {
+            throw new IllegalArgumentException("resolver must not be null");
+        }
+        this.cacheFile = cacheFile;
+        this.resolver = resolver;
+        this.seleniumVersion = String.valueOf(seleniumVersion);
+    }
+
+    /**
+     * Get the binaries for a browser type, resolving them if no valid cached entry exists
+     * @param browserType The type of browser
+     * @return The resolution
+     */
+    public Resolution resolve(WebDriverFactory.BrowserType browserType) {
+        return resolved.computeIfAbsent(browserType, this::load);
+    }
+
+    public Path getCacheFile() {
+        return cacheFile;
+    }
+
+    private Resolution load(WebDriverFactory.BrowserType browserType) {
+        synchronized (DriverDiscoveryCache.class) {
+            Properties properties = read();
+            Resolution cached = fromProperties(properties, browserType.name());
+            if (cached != null) {
+                return cached;
+            }
+            Resolution resolution = resolver.resolve(browserType);
+            if (resolution == null) {
+                throw new IllegalStateException("No driver found for " + browserType);
+            }
+            if (!seleniumVersion.equals(properties.getProperty(SELENIUM_VERSION_KEY))) {
+                properties.clear();
+                properties.setProperty(SELENIUM_VERSION_KEY, seleniumVersion);
+            }
+            toProperties(properties, browserType.name(), resolution);
+            write(properties);
+            return resolution;
+        }
+    }
+
+    private Resolution fromProperties(Properties properties, String prefix) {
+        if (!seleniumVersion.equals(properties.getProperty(SELENIUM_VERSION_KEY))) {
+            return null;
+        }
+        String driver = properties.getProperty(prefix + ".driver");
+        String browser = properties.getProperty(prefix + ".browser");
+        if (driver == null || !fingerprint(driver).equals(properties.getProperty(prefix + ".driver.fingerprint"))) {
+            return null;
+        }
+        if (browser != null && !fingerprint(browser).equals(properties.getProperty(prefix + ".browser.fingerprint"))) {
+            return null;
+        }
+        return new Resolution(driver, browser);
+    }
+
+    private static void toProperties(Properties properties, String prefix, Resolution resolution) {
+        properties.setProperty(prefix + ".driver", resolution.getDriverPath());
+        properties.setProperty(prefix + ".driver.fingerprint", fingerprint(resolution.getDriverPath()));
+        properties.remove(prefix + ".browser");
+        properties.remove(prefix + ".browser.fingerprint");
+        if (resolution.getBrowserPath() != null) {
+            properties.setProperty(prefix + ".browser", resolution.getBrowserPath());
+            properties.setProperty(prefix + ".browser.fingerprint", fingerprint(resolution.getBrowserPath()));
+        }
+    }
+
+    // Size and modification time of the file a path finally points to; empty if it is missing
+    private static String fingerprint(String path) {
+        try {
+            Path real = Paths.get(path).toRealPath();
+            return Files.size(real) + ":" + Files.getLastModifiedTime(real).toMillis();
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private Properties read() {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(cacheFile)) {
+            try (InputStream in = Files.newInputStream(cacheFile)) {
+                properties.load(in);
+            } catch (IOException | IllegalArgumentException e) {
+                // Unreadable cache is rebuilt
+                properties.clear();
+            }
+        }
+        return properties;
+    }
+
+    // Written to a temp file and moved so concurrent JVMs never read a partial file
+    private void write(Properties properties) {
+        try {
+            if (cacheFile.getParent() != null) {
+                Files.createDirectories(cacheFile.getParent());
+            }
+            Path temp = Files.createTempFile(cacheFile.toAbsolutePath().getParent(), "drivers", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "Driver discovery cache, see DriverDiscoveryCache");
+            }
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The cache only saves time; this JVM keeps its in-memory resolution
+        }
+    }
+
+    private static Resolution seleniumManager(WebDriverFactory.BrowserType browserType) {
+        DriverService service;
+        switch (browserType) {
+            case CHROME:
+                service = ChromeDriverService.createDefaultService();
+                break;
+            case FIREFOX:
+                service = GeckoDriverService.createDefaultService();
+                break;
+            case EDGE:
+                service = EdgeDriverService.createDefaultService();
+                break;
+            default:
+                throw new IllegalArgumentException("Browser type not supported: " + browserType);
+        }
+        SeleniumManagerOutput.Result result = DriverFinder.getPath(service,
+                WebDriverFactory.createOptions(browserType, false));
+        return new Resolution(result.getDriverPath(), result.getBrowserPath());
+    }
+}
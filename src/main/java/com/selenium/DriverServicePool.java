@@ -0,0 +1,157 @@
+package com.selenium;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One long-lived driver service (chromedriver, msedgedriver) per browser type.
+ *
+ * Sessions are created as RemoteWebDriver sessions against the already running service
+ * instead of starting a new driver process per session; quitting such a session ends the
+ * browser but leaves the service running. geckodriver serves only one session at a time,
+ * so Firefox sessions still get their own geckodriver, started from the cached binary.
+ * Binaries come from DriverDiscoveryCache, so Selenium Manager is not consulted once they
+ * are cached. Services are stopped by close()
+ * or, for the shared pool, when the JVM exits. A service that died is restarted on next use.
+ */
+public class DriverServicePool implements AutoCloseable {
+
+    /**
+     * Builds a service for a browser type from resolved binaries
+     */
+    @FunctionalInterface
+    public interface ServiceFactory {
+        DriverService create(WebDriverFactory.BrowserType browserType, DriverDiscoveryCache.Resolution resolution);
+    }
+
+    private static class SharedHolder {
+        private static final DriverServicePool INSTANCE = createShared();
+
+        private static DriverServicePool createShared() {
+            DriverServicePool pool = new DriverServicePool(new DriverDiscoveryCache(), DriverServicePool::buildService);
+            Runtime.getRuntime().addShutdownHook(new Thread(pool::close, "driver-service-shutdown"));
+            return pool;
+        }
+    }
+
+    private final DriverDiscoveryCache discoveryCache;
+    private final ServiceFactory serviceFactory;
+    private final Map<WebDriverFactory.BrowserType, DriverService> services =
+            new EnumMap<>(WebDriverFactory.BrowserType.class);
+
+    /**
+     * Create a pool
+     * @param discoveryCache Source of the driver and browser binaries
+     * @param serviceFactory Builds a service from resolved binaries
+     */
+    public DriverServicePool(DriverDiscoveryCache discoveryCache, ServiceFactory serviceFactory) {
+        if (discoveryCache == null) {
+            throw new IllegalArgumentException("discoveryCache must not be null");
+        }
+        if (serviceFactory == null) {
+            throw new IllegalArgumentException("serviceFactory must not be null");
+        }
+        this.discoveryCache = discoveryCache;
+        this.serviceFactory = serviceFactory;
+    }
+
+    /**
+     * Get the JVM-wide pool, whose services are stopped when the JVM exits
+     * @return The shared pool
+     */
+    public static DriverServicePool shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Create a session on the running service for a browser type
+     * @param browserType The type of browser
+     * @param options The browser options; the cached browser binary is applied to them
+     * @return The session, augmented with the browser's extra interfaces such as DevTools
+     */
+    public WebDriver createDriver(WebDriverFactory.BrowserType browserType, Capabilities options) {
+        String browserPath = discoveryCache.resolve(browserType).getBrowserPath();
+        if (browserPath != null) {
+            if (options instanceof ChromiumOptions) {
+                ((ChromiumOptions<?>) options).setBinary(browserPath);
+            } else if (options instanceof FirefoxOptions) {
+                ((FirefoxOptions) options).setBinary(browserPath);
+            }
+        }
+        if (browserType == WebDriverFactory.BrowserType.FIREFOX) {
+            return new FirefoxDriver((GeckoDriverService) serviceFactory.create(browserType,
+                    discoveryCache.resolve(browserType)), (FirefoxOptions) options);
+        }
+        return new Augmenter().augment(new RemoteWebDriver(serviceUrl(browserType), options));
+    }
+
+    /**
+     * Get the URL of the service for a browser type, starting or restarting it if needed
+     * @param browserType The type of browser
+     * @return The service URL
+     */
+    public synchronized URL serviceUrl(WebDriverFactory.BrowserType browserType) {
+        if (browserType == WebDriverFactory.BrowserType.FIREFOX) {
+            throw new IllegalArgumentException("geckodriver cannot be shared between sessions");
+        }
+        DriverService service = services.get(browserType);
+        if (service == null || !service.isRunning()) {
+            if (service != null) {
+                service.stop();
+            }
+            service = serviceFactory.create(browserType, discoveryCache.resolve(browserType));
+            try {
+                service.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot start driver service for " + browserType, e);
+            }
+            services.put(browserType, service);
+        }
+        return service.getUrl();
+    }
+
+    /**
+     * Stop every service
+     */
+    @Override
+    public synchronized void close() {
+        for (DriverService service : services.values()) {
+            try {
+                service.stop();
+            } catch (RuntimeException e) {
+                // Keep stopping the others
+            }
+        }
+        services.clear();
+    }
+
+    private static DriverService buildService(WebDriverFactory.BrowserType browserType,
+                                              DriverDiscoveryCache.Resolution resolution) {
+        File executable = new File(resolution.getDriverPath());
+        switch (browserType) {
+            case CHROME:
+                return new ChromeDriverService.Builder().usingDriverExecutable(executable).usingAnyFreePort().build();
+            case FIREFOX:
+                return new GeckoDriverService.Builder().usingDriverExecutable(executable).usingAnyFreePort().build();
+            case EDGE:
+                return new EdgeDriverService.Builder().usingDriverExecutable(executable).usingAnyFreePort().build();
+            default:
+                throw new IllegalArgumentException("Browser type not supported: " + browserType);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.selenium;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Background writer for failure artifacts (screenshots and DOM snapshots).
+ *
+ * Test threads only hand over the captured bytes; hashing, compression and file I/O happen
+ * on a single writer thread. The queue is bounded, so when the disk falls behind, submit()
+ * blocks the test thread instead of letting captured artifacts pile up in memory. close()
+ * waits until every capture accepted before it, including submits still blocked on a full
+ * queue, has been written; captures submitted after close() are rejected.
+ *
+ * DOM snapshots are gzip-compressed and stored once per distinct content hash; screenshots
+ * are PNG data that is already compressed and are written as-is. Every capture adds a line
+ * to index.tsv mapping the artifact name to its screenshot and DOM files.
+ */
+public class FailureArtifactWriter implements AutoCloseable {
+
+    public static final String INDEX_FILE = "index.tsv";
+
+    private final Path directory;
+    private final int queueCapacity;
+    private final Deque<Artifact> queue = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Thread worker;
+    private final Set<String> writtenSnapshots = new HashSet<>();
+    // Guarded by lock
+    private boolean closed;
+    private boolean workerDone;
+    private int blockedSubmits;
+    private volatile IOException lastError;
+
+    /**
+     * Create a writer with the default queue capacity
+     * @param directory The directory to write artifacts to
+     */
+    public FailureArtifactWriter(Path directory) {
+        this(directory, 16);
+    }
+
+    /**
+     * Create a writer
+     * @param directory The directory to write artifacts to
+     * @param queueCapacity The number of captures that may wait to be written
+     */
+    public FailureArtifactWriter(Path directory, int queueCapacity) {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory must not be null");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be at least 1: " + queueCapacity);
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create artifact directory " + directory, e);
+        }
+        this.directory = directory;
+        this.queueCapacity = queueCapacity;
+        this.worker = new Thread(this::drain, "failure-artifact-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queue a capture for writing, blocking while the queue is full
+     * @param name The artifact name, unique per capture
+     * @param screenshot PNG screenshot bytes, or null if none was captured
+     * @param pageSource The page source, or null if none was captured
+     */
+    public void submit(String name, byte[] screenshot, String pageSource) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("name must not be empty");
+        }
+        Artifact artifact = new Artifact(sanitize(name), screenshot, pageSource);
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("FailureArtifactWriter is closed");
+            }
+            // Counted so the worker does not stop while an accepted submit still waits for room
+            blockedSubmits++;
+            try {
+                while (queue.size() >= queueCapacity && !workerDone) {
+                    notFull.awaitUninterruptibly();
+                }
+            } finally {
+                blockedSubmits--;
+            }
+            if (workerDone) {
+                throw new IllegalStateException("FailureArtifactWriter has stopped");
+            }
+            queue.addLast(artifact);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the directory artifacts are written to
+     * @return The artifact directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Get the last I/O error hit by the writer thread
+     * @return The last error, or null if every write succeeded
+     */
+    public IOException getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Write every queued capture and stop the writer thread
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                Artifact artifact;
+                lock.lock();
+                try {
+                    while (queue.isEmpty() && !(closed && blockedSubmits == 0)) {
+                        notEmpty.awaitUninterruptibly();
+                    }
+                    if (queue.isEmpty()) {
+                        return;
+                    }
+                    artifact = queue.removeFirst();
+                    notFull.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    write(artifact);
+                } catch (IOException e) {
+                    lastError = e;
+                } catch (RuntimeException e) {
+                    lastError = new IOException("Cannot write artifact " + artifact.name, e);
+                }
+            }
+        } finally {
+            lock.lock();
+            try {
+                workerDone = true;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void write(Artifact artifact) throws IOException {
+        String screenshotFile = "-";
+        String snapshotFile = "-";
+
+        if (artifact.screenshot != null) {
+            screenshotFile = artifact.name + ".png";
+            Files.write(directory.resolve(screenshotFile), artifact.screenshot);
+        }
+
+        if (artifact.pageSource != null) {
+            byte[] dom = artifact.pageSource.getBytes(StandardCharsets.UTF_8);
+            snapshotFile = "dom-" + sha256Hex(dom) + ".html.gz";
+            if (!writtenSnapshots.contains(snapshotFile)) {
+                Path snapshot = directory.resolve(snapshotFile);
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(snapshot))) {
+                    out.write(dom);
+                } catch (IOException e) {
+                    // Never leave a truncated snapshot for later captures of the same DOM to point at
+                    Files.deleteIfExists(snapshot);
+                    throw e;
+                }
+                writtenSnapshots.add(snapshotFile);
+            }
+        }
+
+        String line = artifact.name + "\t" + screenshotFile + "\t" + snapshotFile + "\n";
+        Files.write(directory.resolve(INDEX_FILE), line.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private static class Artifact {
+        private final String name;
+        private final byte[] screenshot;
+        private final String pageSource;
+
+        Artifact(String name, byte[] screenshot, String pageSource) {
+            this.name = name;
+            this.screenshot = screenshot;
+            this.pageSource = pageSource;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.selenium;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares an element of a @PageObject page. Exactly one locator attribute must be set.
+ *
+ * The kind decides which accessors are generated for the field name, e.g. for "username":
+ * - INPUT: enterUsername(String), getUsername() and a slot in fill()
+ * - TEXT: getUsername() and isUsernameDisplayed()
+ * - BUTTON: clickUsername() and isUsernameDisplayed()
+ * Every field is included in readAll().
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Field {
+
+    enum Kind {
+        INPUT, TEXT, BUTTON
+    }
+
+    String id() default "";
+
+    String name() default "";
+
+    String className() default "";
+
+    String css() default "";
+
+    Kind kind() default Kind.TEXT;
+}
@@ -0,0 +1,23 @@
+package com.selenium;
+
+/**
+ * How BasePage.enterText puts text into a field
+ */
+public enum InputStrategy {
+    /**
+     * Clear the field and type every character with sendKeys. Slow for long text, but the
+     * page sees real key events; use it for fields with key handlers, masks or autocomplete.
+     */
+    KEYSTROKES,
+
+    /**
+     * Set the value with one script call and fire input and change events, then verify the
+     * value. Falls back to keystrokes for fields that cannot take an injected value.
+     */
+    VALUE_INJECTION,
+
+    /**
+     * Keystrokes for text shorter than the page's injection threshold, value injection otherwise
+     */
+    AUTO
+}
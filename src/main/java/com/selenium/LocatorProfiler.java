@@ -0,0 +1,287 @@
+package com.selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Profiles the locators used through BasePage.
+ *
+ * Every lookup is timed per page and per locator, and the number of matching elements is
+ * recorded so ambiguous locators stand out. XPath locators made of simple tag/attribute steps
+ * get an equivalent id or CSS locator suggested. A suggestion is verified once per page class,
+ * the first time the original locator finds elements, and only accepted if it finds the same
+ * ones. With auto-substitution enabled, BasePage uses the verified replacement for that page's
+ * subsequent lookups; other pages keep their own locators until verified on their own DOM.
+ *
+ * writeReport() produces one report per page, slowest total lookup time first.
+ */
+public class LocatorProfiler {
+
+    private static final Pattern XPATH_STEP = Pattern.compile(
+            "(//|/)(\\*|[A-Za-z][\\w-]*)(?:\\[@([\\w-]+)\\s*=\\s*(['\"])([^'\"]*)\\4\\])?");
+
+    private final long slowThresholdNanos;
+    private final boolean autoSubstitute;
+    private final Map<String, Map<By, LocatorStats>> statsByPage = new ConcurrentHashMap<>();
+
+    /**
+     * Statistics collected for one locator on one page
+     */
+    public static class LocatorStats {
+        private final By locator;
+        private long calls;
+        private long totalNanos;
+        private long maxNanos;
+        private int maxMatches;
+        private By substitute;
+        private boolean verified;
+
+        LocatorStats(By locator) {
+            this.locator = locator;
+        }
+
+        synchronized void record(long nanos, int matches) {
+            calls++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            maxMatches = Math.max(maxMatches, matches);
+        }
+
+        public By getLocator() {
+            return locator;
+        }
+
+        public synchronized long getCalls() {
+            return calls;
+        }
+
+        public synchronized long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public synchronized long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public synchronized int getMaxMatches() {
+            return maxMatches;
+        }
+
+        /**
+         * Get the verified faster replacement for this locator
+         * @return The replacement, or null if none was found
+         */
+        public synchronized By getSubstitute() {
+            return substitute;
+        }
+
+        synchronized void setSubstitute(By substitute) {
+            this.substitute = substitute;
+        }
+
+        // True only for the one caller that gets to verify the suggestion
+        synchronized boolean startVerification() {
+            if (verified) {
+                return false;
+            }
+            verified = true;
+            return true;
+        }
+    }
+
+    /**
+     * Create a profiler that flags lookups slower than 500ms and only suggests replacements
+     */
+    public LocatorProfiler() {
+        this(500, false);
+    }
+
+    /**
+     * Create a profiler
+     * @param slowThresholdMillis Lookups slower than this are flagged as slow
+     * @param autoSubstitute Whether BasePage should use verified replacements automatically
+     */
+    public LocatorProfiler(long slowThresholdMillis, boolean autoSubstitute) {
+        if (slowThresholdMillis < 0) {
+            throw new IllegalArgumentException("slowThresholdMillis must not be negative: " + slowThresholdMillis);
+        }
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000L;
+        this.autoSubstitute = autoSubstitute;
+    }
+
+    /**
+     * Record one lookup
+     * @param page The page object class name
+     * @param locator The locator as written in the page object
+     * @param nanos The time the lookup took
+     * @param matches The number of elements the locator matched
+     */
+    public void record(String page, By locator, long nanos, int matches) {
+        statsFor(page, locator).record(nanos, matches);
+    }
+
+    /**
+     * Record one lookup made through a driver. The matching elements are counted with one
+     * extra findElements call. The first time the original locator finds elements on a page,
+     * its suggested replacement is verified against them with one more call.
+     * @param driver The driver that made the lookup
+     * @param page The page object class name
+     * @param locator The locator as written in the page object
+     * @param target The locator that was actually used
+     * @param nanos The time the lookup call took
+     */
+    public void record(WebDriver driver, String page, By locator, By target, long nanos) {
+        LocatorStats stats = statsFor(page, locator);
+        List<WebElement> found = findAll(driver, target);
+        stats.record(nanos, found == null ? -1 : found.size());
+        if (found != null && !found.isEmpty() && target.equals(locator) && stats.startVerification()) {
+            By candidate = suggestFaster(locator);
+            if (candidate != null && found.equals(findAll(driver, candidate))) {
+                stats.setSubstitute(candidate);
+            }
+        }
+    }
+
+    /**
+     * Resolve the locator BasePage should use. This never touches the DOM: it returns the
+     * replacement verified for this page when auto-substitution is enabled.
+     * @param page The page object class name
+     * @param locator The locator as written in the page object
+     * @return The locator to use for the lookup
+     */
+    public By resolve(String page, By locator) {
+        if (!autoSubstitute) {
+            return locator;
+        }
+        Map<By, LocatorStats> pageStats = statsByPage.get(page);
+        LocatorStats stats = pageStats == null ? null : pageStats.get(locator);
+        By substitute = stats == null ? null : stats.getSubstitute();
+        return substitute == null ? locator : substitute;
+    }
+
+    /**
+     * Suggest an id or CSS locator equivalent to a simple XPath locator.
+     * Only descendant/child steps with an optional single [@attr='value'] predicate are translated.
+     * @param locator The locator to improve
+     * @return The faster equivalent, or null if none is known
+     */
+    public static By suggestFaster(By locator) {
+        String description = locator == null ? "" : locator.toString();
+        if (!description.startsWith("By.xpath: ")) {
+            return null;
+        }
+        String xpath = description.substring("By.xpath: ".length()).trim();
+        if (!xpath.startsWith("//")) {
+            return null;
+        }
+
+        StringBuilder css = new StringBuilder();
+        Matcher step = XPATH_STEP.matcher(xpath);
+        int position = 0;
+        int steps = 0;
+        String onlyId = null;
+        while (position < xpath.length()) {
+            if (!step.find(position) || step.start() != position) {
+                return null;
+            }
+            if (steps > 0) {
+                css.append(step.group(1).equals("//") ? " " : " > ");
+            }
+            String tag = step.group(2);
+            String attribute = step.group(3);
+            String value = step.group(5);
+            css.append(tag.equals("*") && attribute == null ? "*" : tag.equals("*") ? "" : tag);
+            if (attribute != null) {
+                css.append("[").append(attribute).append("='").append(value).append("']");
+            }
+            onlyId = steps == 0 && tag.equals("*") && "id".equals(attribute) ? value : null;
+            position = step.end();
+            steps++;
+        }
+        if (steps == 1 && onlyId != null) {
+            return By.id(onlyId);
+        }
+        return By.cssSelector(css.toString());
+    }
+
+    /**
+     * Get the statistics recorded for a page
+     * @param page The page object class name
+     * @return The statistics, slowest total lookup time first
+     */
+    public List<LocatorStats> getStats(String page) {
+        List<LocatorStats> stats = new ArrayList<>(statsByPage.getOrDefault(page, Map.of()).values());
+        stats.sort(Comparator.comparingLong(LocatorStats::getTotalNanos).reversed());
+        return stats;
+    }
+
+    /**
+     * Check if a locator's slowest lookup exceeded the slow threshold
+     * @param stats The locator statistics
+     * @return true if the locator is slow
+     */
+    public boolean isSlow(LocatorStats stats) {
+        return stats.getMaxNanos() > slowThresholdNanos;
+    }
+
+    /**
+     * Write one tab-separated report per page, named {@code <page>-locators.tsv}
+     * @param directory The directory to write the reports to
+     * @return The report files written
+     * @throws IOException if a report cannot be written
+     */
+    public List<Path> writeReport(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> reports = new ArrayList<>();
+        for (String page : statsByPage.keySet()) {
+            Path report = directory.resolve(page + "-locators.tsv");
+            try (Writer out = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+                out.write("locator\tcalls\ttotal_ms\tmax_ms\tmax_matches\tflags\tsuggestion\n");
+                for (LocatorStats stats : getStats(page)) {
+                    List<String> flags = new ArrayList<>();
+                    if (isSlow(stats)) {
+                        flags.add("SLOW");
+                    }
+                    if (stats.getMaxMatches() > 1) {
+                        flags.add("AMBIGUOUS");
+                    }
+                    By substitute = stats.getSubstitute();
+                    out.write(stats.getLocator() + "\t" + stats.getCalls()
+                            + "\t" + stats.getTotalNanos() / 1_000_000 + "\t" + stats.getMaxNanos() / 1_000_000
+                            + "\t" + stats.getMaxMatches()
+                            + "\t" + (flags.isEmpty() ? "-" : String.join(",", flags))
+                            + "\t" + (substitute == null ? "-" : substitute.toString()) + "\n");
+                }
+            }
+            reports.add(report);
+        }
+        return reports;
+    }
+
+    private LocatorStats statsFor(String page, By locator) {
+        return statsByPage.computeIfAbsent(page, p -> new ConcurrentHashMap<>())
+                .computeIfAbsent(locator, LocatorStats::new);
+    }
+
+    private static List<WebElement> findAll(WebDriver driver, By locator) {
+        try {
+            return driver.findElements(locator);
+        } catch (WebDriverException e) {
+            return null;
+        }
+    }
+}
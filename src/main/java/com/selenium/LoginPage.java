@@ -56,9 +56,11 @@ public class LoginPage extends BasePage {
      * @param password The password
      */
     public void login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
-        clickLoginButton();
+        measuredNavigation("login", () -> {
+            enterUsername(username);
+            enterPassword(password);
+            clickLoginButton();
+        }, errorMessage, welcomeMessage);
     }
     
     /**
@@ -91,7 +93,6 @@ public class LoginPage extends BasePage {
      */
     public boolean isWelcomeMessageDisplayed() {
         return isElementDisplayed(welcomeMessage);
-        return isElementDisplayed(welcomeMessage);
     }
     
     /**
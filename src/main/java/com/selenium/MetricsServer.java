@@ -0,0 +1,125 @@
+package com.selenium;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Embedded HTTP endpoint that serves SuiteMetrics in the Prometheus text format.
+ *
+ * The server listens on the loopback address only and answers GET /metrics. Reading the
+ * metrics sums the LongAdder cells, so a scrape never blocks test threads. Throughput is
+ * exported as monotonic counters only, so any number of scrapers can read them without
+ * affecting each other; take rates in Prometheus, e.g. rate(selenium_tests_completed_total[1m]).
+ *
+ * Start it for a test run with -Dmetrics.port=9464; use port 0 to pick a free port, e.g.
+ * with several forked JVMs, and read the chosen port from the test output.
+ */
+public class MetricsServer implements AutoCloseable {
+
+    public static final String PORT_PROPERTY = "metrics.port";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final HttpServer server;
+
+    /**
+     * Start a server
+     * @param port The port to listen on, or 0 for a free port
+     * @throws IOException if the port cannot be bound
+     */
+    public MetricsServer(int port) throws IOException {
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("port must be between 0 and 65535: " + port);
+        }
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", this::handle);
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Render the current metrics
+     * @return The metrics in the Prometheus text format
+     */
+    public String render() {
+        StringBuilder text = new StringBuilder();
+        text.append("# HELP selenium_sessions Open browser sessions\n");
+        text.append("# TYPE selenium_sessions gauge\n");
+        sample(text, "selenium_sessions{state=\"active\"}", SuiteMetrics.getActiveSessions());
+        sample(text, "selenium_sessions{state=\"idle\"}", SuiteMetrics.getIdleSessions());
+        text.append("# HELP selenium_wait_timeouts_total Waits that timed out after their last retry\n");
+        text.append("# TYPE selenium_wait_timeouts_total counter\n");
+        sample(text, "selenium_wait_timeouts_total", SuiteMetrics.getWaitTimeouts());
+        text.append("# HELP selenium_scenarios_completed_total Finished ScenarioScheduler scenarios\n");
+        text.append("# TYPE selenium_scenarios_completed_total counter\n");
+        sample(text, "selenium_scenarios_completed_total{result=\"passed\"}", SuiteMetrics.getScenariosPassed());
+        sample(text, "selenium_scenarios_completed_total{result=\"failed\"}", SuiteMetrics.getScenariosFailed());
+        text.append("# HELP selenium_tests_completed_total Finished tests\n");
+        text.append("# TYPE selenium_tests_completed_total counter\n");
+        sample(text, "selenium_tests_completed_total", SuiteMetrics.getTestsCompleted());
+        text.append("# HELP selenium_operation_seconds BasePage operation latency\n");
+        text.append("# TYPE selenium_operation_seconds summary\n");
+        for (Map.Entry<String, SuiteMetrics.LatencyHistogram> entry : SuiteMetrics.getOperations().entrySet()) {
+            String operation = escape(entry.getKey());
+            SuiteMetrics.LatencyHistogram histogram = entry.getValue();
+            for (double quantile : QUANTILES) {
+                sample(text, "selenium_operation_seconds{operation=\"" + operation + "\",quantile=\""
+                        + quantile + "\"}", histogram.percentileNanos(quantile * 100) / 1e9);
+            }
+            sample(text, "selenium_operation_seconds{operation=\"" + operation + "\",quantile=\"1.0\"}",
+                    histogram.getMaxNanos() / 1e9);
+            sample(text, "selenium_operation_seconds_sum{operation=\"" + operation + "\"}",
+                    histogram.getTotalNanos() / 1e9);
+            sample(text, "selenium_operation_seconds_count{operation=\"" + operation + "\"}",
+                    histogram.getCount());
+        }
+        return text.toString();
+    }
+
+    /**
+     * Stop the server
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void sample(StringBuilder text, String name, long value) {
+        text.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder text, String name, double value) {
+        text.append(name).append(' ').append(String.format(Locale.ROOT, "%.6f", value)).append('\n');
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,460 @@
+package com.selenium;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Routes browser sessions across Selenium standalone nodes.
+ *
+ * Nodes are either launched and supervised locally (one "selenium-server standalone"
+ * process each) or registered by URL, which is how nodes on other machines join. Each
+ * session goes to the least loaded healthy node that supports the requested browser;
+ * when every matching slot is busy, acquire() waits for one to free up. A background
+ * supervisor, started with the first node, checks every node's /status endpoint and
+ * restarts local nodes whose process died. A node that cannot be reached gets no sessions
+ * until it answers again; one that answers "ready": false merely has all slots taken, which
+ * is not a failure, and one that keeps answering with an error is taken out after
+ * MAX_FAILED_CHECKS checks in a row.
+ */
+public class NodeManager implements AutoCloseable {
+
+    private static final Pattern READY = Pattern.compile("\"ready\"\\s*:\\s*true");
+    private static final long SUPERVISE_INTERVAL_SECONDS = 5;
+    public static final int MAX_FAILED_CHECKS = 3;
+
+    private enum Status { READY, BUSY, ERROR, UNREACHABLE }
+
+    /**
+     * Opens a session on a node
+     */
+    @FunctionalInterface
+    public interface SessionCreator {
+        WebDriver create(URL nodeUrl, WebDriverFactory.BrowserType browserType, boolean headless);
+    }
+
+    private final SessionCreator sessionCreator;
+    private final Path logDir;
+    private final List<Node> nodes = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition slotFreed = lock.newCondition();
+    private ScheduledExecutorService supervisor;
+    private boolean closed;
+
+    /**
+     * Create a manager that opens RemoteWebDriver sessions through WebDriverFactory
+     */
+    public NodeManager() {
+        this(WebDriverFactory::createRemoteDriver, Paths.get("target", "grid-nodes"));
+    }
+
+    /**
+     * Create a manager
+     * @param sessionCreator Opens a session on a node
+     * @param logDir Directory for the output of locally launched nodes
+     */
+    public NodeManager(SessionCreator sessionCreator, Path logDir) {
+        if (sessionCreator == null) {
+            throw new IllegalArgumentException("sessionCreator must not be null");
+        }
+        if (logDir == null) {
+            throw new IllegalArgumentException("logDir must not be null");
+        }
+        this.sessionCreator = sessionCreator;
+        this.logDir = logDir;
+    }
+
+    /**
+     * Register a node that is managed elsewhere, e.g. on another machine
+     * @param url The node URL
+     * @param browserTypes The browsers the node offers
+     * @param maxSessions The number of concurrent sessions the node accepts
+     * @return The registered node
+     */
+    public Node registerNode(URL url, Set<WebDriverFactory.BrowserType> browserTypes, int maxSessions) {
+        Node node = new Node(url, browserTypes, maxSessions, null);
+        addNode(node);
+        return node;
+    }
+
+    /**
+     * Launch a local standalone node and wait until it is ready
+     * @param serverJar The selenium-server jar
+     * @param port The port for the node
+     * @param browserTypes The browsers the node offers; their drivers must be available on the machine
+     * @param maxSessions The number of concurrent sessions the node accepts
+     * @param startupTimeout How long to wait for the node to report ready
+     * @return The launched node
+     * @throws IOException if the node cannot be started or does not become ready in time
+     */
+    public Node launchLocalNode(Path serverJar, int port, Set<WebDriverFactory.BrowserType> browserTypes,
+                                int maxSessions, Duration startupTimeout) throws IOException {
+        if (serverJar == null || !Files.isRegularFile(serverJar)) {
+            throw new IllegalArgumentException("Selenium server jar not found: " + serverJar);
+        }
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = Arrays.asList(java, "-jar", serverJar.toString(), "standalone",
+                "--host", "127.0.0.1", "--port", String.valueOf(port),
+                "--max-sessions", String.valueOf(maxSessions));
+        Node node = new Node(new URL("http://127.0.0.1:" + port), browserTypes, maxSessions, command);
+        node.process = start(node);
+        if (!waitUntilReady(node, startupTimeout)) {
+            node.process.destroyForcibly();
+            throw new IOException("Node on port " + port + " did not become ready within " + startupTimeout
+                    + ", see " + logFile(node));
+        }
+        addNode(node);
+        return node;
+    }
+
+    /**
+     * Open a session on the least loaded node offering the browser, waiting for a free slot
+     * @param browserType The type of browser
+     * @param headless Whether to run in headless mode
+     * @param timeout How long to wait for a free slot
+     * @return The session; close it to quit the driver and free the slot
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Session acquire(WebDriverFactory.BrowserType browserType, boolean headless, Duration timeout)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Node node;
+        lock.lock();
+        try {
+            if (nodes.stream().noneMatch(n -> n.browserTypes.contains(browserType))) {
+                throw new IllegalArgumentException("No node offers " + browserType);
+            }
+            while ((node = leastLoaded(browserType)) == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException("No free " + browserType + " slot within " + timeout);
+                }
+                slotFreed.awaitNanos(remaining);
+            }
+            node.activeSessions++;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            WebDriver driver = sessionCreator.create(node.url, browserType, headless);
+            if (driver == null) {
+                throw new IllegalStateException("Session creator returned null");
+            }
+            return new Session(node, driver);
+        } catch (RuntimeException e) {
+            release(node);
+            throw e;
+        }
+    }
+
+    /**
+     * Get the registered and launched nodes
+     * @return The nodes
+     */
+    public List<Node> getNodes() {
+        return Collections.unmodifiableList(new ArrayList<>(nodes));
+    }
+
+    /**
+     * Restart dead local nodes and update node health; runs periodically once a node is added
+     */
+    public void supervise() {
+        for (Node node : nodes) {
+            if (node.command != null && !node.process.isAlive()) {
+                node.healthy = false;
+                node.failedChecks = 0;
+                try {
+                    node.process = start(node);
+                    node.restarts++;
+                } catch (IOException e) {
+                    // Retried on the next pass
+                }
+                continue;
+            }
+            Status status = probe(node.url);
+            if (status == Status.UNREACHABLE) {
+                node.healthy = false;
+            } else if (status == Status.ERROR) {
+                if (++node.failedChecks >= MAX_FAILED_CHECKS) {
+                    node.healthy = false;
+                }
+            } else {
+                // A busy node is still healthy; its slots free up through release()
+                node.failedChecks = 0;
+                if (!node.healthy) {
+                    node.healthy = true;
+                    signalSlotFreed();
+                }
+            }
+        }
+    }
+
+    /**
+     * Check a node's /status endpoint
+     * @param nodeUrl The node URL
+     * @return true if the node reports ready
+     */
+    public static boolean isReady(URL nodeUrl) {
+        return probe(nodeUrl) == Status.READY;
+    }
+
+    private static Status probe(URL nodeUrl) {
+        HttpURLConnection connection;
+        try {
+            String base = nodeUrl.toString();
+            URL status = new URL(base.endsWith("/") ? base + "status" : base + "/status");
+            connection = (HttpURLConnection) status.openConnection();
+            connection.setConnectTimeout(2000);
+            connection.setReadTimeout(2000);
+        } catch (IOException e) {
+            return Status.UNREACHABLE;
+        }
+        try {
+            // Throws when nothing answers, not for error statuses
+            int code = connection.getResponseCode();
+            if (code != 200) {
+                return Status.ERROR;
+            }
+            try (InputStream in = connection.getInputStream()) {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                in.transferTo(body);
+                return READY.matcher(body.toString(StandardCharsets.UTF_8)).find() ? Status.READY : Status.BUSY;
+            }
+        } catch (IOException e) {
+            return Status.UNREACHABLE;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Stop supervision and the locally launched nodes
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            if (supervisor != null) {
+                supervisor.shutdownNow();
+            }
+        }
+        for (Node node : nodes) {
+            if (node.command != null) {
+                node.process.destroy();
+                try {
+                    if (!node.process.waitFor(10, TimeUnit.SECONDS)) {
+                        node.process.destroyForcibly();
+                    }
+                } catch (InterruptedException e) {
+                    node.process.destroyForcibly();
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void addNode(Node node) {
+        nodes.add(node);
+        signalSlotFreed();
+        startSupervisor();
+    }
+
+    // Caller holds the lock
+    private Node leastLoaded(WebDriverFactory.BrowserType browserType) {
+        Node best = null;
+        for (Node node : nodes) {
+            if (node.healthy && node.browserTypes.contains(browserType) && node.activeSessions < node.maxSessions
+                    && (best == null || node.load() < best.load())) {
+                best = node;
+            }
+        }
+        return best;
+    }
+
+    private void release(Node node) {
+        lock.lock();
+        try {
+            node.activeSessions--;
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void signalSlotFreed() {
+        lock.lock();
+        try {
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Process start(Node node) throws IOException {
+        Files.createDirectories(logDir);
+        return new ProcessBuilder(node.command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(logFile(node).toFile()))
+                .start();
+    }
+
+    private Path logFile(Node node) {
+        return logDir.resolve("node-" + node.url.getPort() + ".log");
+    }
+
+    private static boolean waitUntilReady(Node node, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline && node.process.isAlive()) {
+            if (isReady(node.url)) {
+                return true;
+            }
+            try {
+                Thread.sleep(250);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void startSupervisor() {
+        if (supervisor == null && !closed) {
+            supervisor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "node-supervisor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            supervisor.scheduleWithFixedDelay(this::supervise,
+                    SUPERVISE_INTERVAL_SECONDS, SUPERVISE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * A standalone node and its current load
+     */
+    public static class Node {
+        private final URL url;
+        private final Set<WebDriverFactory.BrowserType> browserTypes;
+        private final int maxSessions;
+        private final List<String> command;
+        private volatile Process process;
+        private volatile boolean healthy = true;
+        private volatile int activeSessions;
+        private volatile int restarts;
+        // Only touched by the supervisor
+        private int failedChecks;
+
+        Node(URL url, Set<WebDriverFactory.BrowserType> browserTypes, int maxSessions, List<String> command) {
+            if (url == null) {
+                throw new IllegalArgumentException("url must not be null");
+            }
+            if (browserTypes == null || browserTypes.isEmpty()) {
+                throw new IllegalArgumentException("browserTypes must not be empty");
+            }
+            if (maxSessions < 1) {
+                throw new IllegalArgumentException("maxSessions must be at least 1: " + maxSessions);
+            }
+            this.url = url;
+            this.browserTypes = Collections.unmodifiableSet(EnumSet.copyOf(browserTypes));
+            this.maxSessions = maxSessions;
+            this.command = command;
+        }
+
+        public URL getUrl() {
+            return url;
+        }
+
+        public Set<WebDriverFactory.BrowserType> getBrowserTypes() {
+            return browserTypes;
+        }
+
+        public int getMaxSessions() {
+            return maxSessions;
+        }
+
+        public int getActiveSessions() {
+            return activeSessions;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        /**
+         * Check if the node was launched by this manager
+         * @return true for local nodes, false for registered ones
+         */
+        public boolean isLocal() {
+            return command != null;
+        }
+
+        public int getRestarts() {
+            return restarts;
+        }
+
+        double load() {
+            return (double) activeSessions / maxSessions;
+        }
+    }
+
+    /**
+     * A session on a node; closing it quits the driver and frees the node slot
+     */
+    public class Session implements AutoCloseable {
+        private final Node node;
+        private final WebDriver driver;
+        private boolean closed;
+
+        Session(Node node, WebDriver driver) {
+            this.node = node;
+            this.driver = driver;
+        }
+
+        public WebDriver getDriver() {
+            return driver;
+        }
+
+        public Node getNode() {
+            return node;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                WebDriverFactory.quitDriver(driver);
+            } catch (WebDriverException e) {
+                // Session already gone, e.g. the node was restarted
+            } finally {
+                release(node);
+            }
+        }
+    }
+}
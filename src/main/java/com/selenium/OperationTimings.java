@@ -0,0 +1,74 @@
+package com.selenium;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-thread collection of BasePage operation timings.
+ *
+ * A test reporter calls begin() when a test starts and end() when it finishes, on the thread
+ * running the test; BasePage reports every operation in between. Operations run on other
+ * threads, such as AsyncBasePage executors, are not attributed to the test. Recording is a
+ * no-op on threads where no collection was begun.
+ */
+public class OperationTimings {
+
+    private static final ThreadLocal<Map<String, OperationStats>> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Start collecting timings on the current thread, discarding any previous collection
+     */
+    public static void begin() {
+        CURRENT.set(new TreeMap<>());
+    }
+
+    /**
+     * Stop collecting timings on the current thread
+     * @return The timings collected since begin(), keyed by operation name
+     */
+    public static Map<String, OperationStats> end() {
+        Map<String, OperationStats> collected = CURRENT.get();
+        CURRENT.remove();
+        return collected == null ? Collections.emptyMap() : Collections.unmodifiableMap(collected);
+    }
+
+    /**
+     * Record one operation
+     * @param operation The operation name, e.g. clickElement
+     * @param nanos The time the operation took
+     */
+    public static void record(String operation, long nanos) {
+        Map<String, OperationStats> collected = CURRENT.get();
+        if (collected != null) {
+            collected.computeIfAbsent(operation, key -> new OperationStats()).add(nanos);
+        }
+    }
+
+    /**
+     * Count, total and maximum time of one operation
+     */
+    public static class OperationStats {
+        private int count;
+        private long totalNanos;
+        private long maxNanos;
+
+        void add(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.selenium;
+
+import org.openqa.selenium.json.Json;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Navigation timing and network traffic measured for one page action.
+ *
+ * Timings are in milliseconds from the start of the navigation; -1 means the value was
+ * not available, e.g. DOMContentLoaded for an action that did not load a new document.
+ */
+public class PageMetrics {
+
+    private final String page;
+    private final String action;
+    private final String url;
+    private final long ttfbMillis;
+    private final long domContentLoadedMillis;
+    private final long loadMillis;
+    private final int requestCount;
+    private final long transferBytes;
+    private final String source;
+
+    /**
+     * Create metrics
+     * @param page The page object class name
+     * @param action The measured action, e.g. navigateTo
+     * @param url The document URL after the action
+     * @param ttfbMillis Time to first byte of the document
+     * @param domContentLoadedMillis Time until DOMContentLoaded was handled
+     * @param loadMillis Time until the load event was handled
+     * @param requestCount Network requests made during the action
+     * @param transferBytes Bytes transferred during the action
+     * @param source How the network traffic was captured, "devtools" or "js"
+     */
+    public PageMetrics(String page, String action, String url, long ttfbMillis, long domContentLoadedMillis,
+                       long loadMillis, int requestCount, long transferBytes, String source) {
+        this.page = page;
+        this.action = action;
+        this.url = url;
+        this.ttfbMillis = ttfbMillis;
+        this.domContentLoadedMillis = domContentLoadedMillis;
+        this.loadMillis = loadMillis;
+        this.requestCount = requestCount;
+        this.transferBytes = transferBytes;
+        this.source = source;
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public long getTtfbMillis() {
+        return ttfbMillis;
+    }
+
+    public long getDomContentLoadedMillis() {
+        return domContentLoadedMillis;
+    }
+
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    public long getTransferBytes() {
+        return transferBytes;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Format the metrics as a single-line JSON object
+     * @return The JSON text
+     */
+    public String toJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("page", page);
+        json.put("action", action);
+        json.put("url", url);
+        json.put("ttfbMs", ttfbMillis);
+        json.put("domContentLoadedMs", domContentLoadedMillis);
+        json.put("loadMs", loadMillis);
+        json.put("requests", requestCount);
+        json.put("transferBytes", transferBytes);
+        json.put("source", source);
+        StringBuilder line = new StringBuilder();
+        new Json().newOutput(line).setPrettyPrint(false).write(json);
+        return line.toString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.selenium;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose @Field declarations describe a page.
+ *
+ * PageObjectProcessor generates a BasePage subclass for it at compile time, with a precomputed
+ * By constant and accessors per field plus batched readAll()/fill() methods. The generated class
+ * is named after the declaring class with a "Page" suffix unless a name is given.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface PageObject {
+
+    /**
+     * Simple name of the generated class
+     * @return The class name, or empty to use the declaring class name plus "Page"
+     */
+    String name() default "";
+}
@@ -0,0 +1,255 @@
+package com.selenium;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor that turns @PageObject declarations into BasePage subclasses.
+ *
+ * All locator work happens at compile time: each @Field becomes a static final By constant
+ * and a CSS selector, and the generated accessors call straight into BasePage without any
+ * reflection. readAll() and fill() go through BasePage's batched helpers, so reading or
+ * filling a whole form costs one driver round trip.
+ *
+ * Registered through META-INF/services, so any compilation with this jar on the classpath
+ * picks it up.
+ */
+@SupportedAnnotationTypes("com.selenium.PageObject")
+public class PageObjectProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(PageObject.class)) {
+            if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+                error(element, "@PageObject must annotate a class or interface");
+                continue;
+            }
+            try {
+                generate((TypeElement) element);
+            } catch (IOException e) {
+                error(element, "Cannot write page object: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        List<FieldSpec> fields = new ArrayList<>();
+        for (Element member : type.getEnclosedElements()) {
+            Field field = member.getAnnotation(Field.class);
+            if (member.getKind() != ElementKind.FIELD || field == null) {
+                continue;
+            }
+            FieldSpec spec = FieldSpec.of(member.getSimpleName().toString(), field);
+            if (spec == null) {
+                error(member, "@Field must set exactly one of id, name, className or css");
+                return;
+            }
+            fields.add(spec);
+        }
+
+        String packageName = packageOf(type);
+        PageObject pageObject = type.getAnnotation(PageObject.class);
+        String className = pageObject.name().isEmpty() ? type.getSimpleName() + "Page" : pageObject.name();
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        try (Writer out = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            out.write(render(packageName, className, type.getQualifiedName().toString(), fields));
+        }
+    }
+
+    private static String render(String packageName, String className, String source, List<FieldSpec> fields) {
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("import com.selenium.BasePage;\n");
+        out.append("import org.openqa.selenium.By;\n");
+        out.append("import org.openqa.selenium.WebDriver;\n");
+        out.append("import java.util.LinkedHashMap;\n");
+        out.append("import java.util.List;\n");
+        out.append("import java.util.Map;\n\n");
+        out.append("/**\n * Page object generated by PageObjectProcessor from ").append(source).append("\n */\n");
+        out.append("@javax.annotation.processing.Generated(\"com.selenium.PageObjectProcessor\")\n");
+        out.append("public class ").append(className).append(" extends BasePage {\n\n");
+
+        List<FieldSpec> inputs = new ArrayList<>();
+        for (FieldSpec field : fields) {
+            out.append("    public static final By ").append(field.constant()).append(" = ")
+                    .append(field.byExpression()).append(";\n");
+            if (field.kind == Field.Kind.INPUT) {
+                inputs.add(field);
+            }
+        }
+        out.append("\n    private static final String[] READ_SELECTORS = {")
+                .append(joinSelectors(fields)).append("};\n");
+        out.append("    private static final String[] FILL_SELECTORS = {")
+                .append(joinSelectors(inputs)).append("};\n\n");
+
+        out.append("    public ").append(className).append("(WebDriver driver) {\n");
+        out.append("        super(driver);\n");
+        out.append("    }\n");
+
+        for (FieldSpec field : fields) {
+            String property = field.property();
+            switch (field.kind) {
+                case INPUT:
+                    out.append("\n    public void enter").append(property).append("(String value) {\n");
+                    out.append("        enterText(").append(field.constant()).append(", value);\n");
+                    out.append("    }\n");
+                    out.append("\n    public String get").append(property).append("() {\n");
+                    out.append("        return waitForElement(").append(field.constant())
+                            .append(").getAttribute(\"value\");\n");
+                    out.append("    }\n");
+                    break;
+                case BUTTON:
+                    out.append("\n    public void click").append(property).append("() {\n");
+                    out.append("        clickElement(").append(field.constant()).append(");\n");
+                    out.append("    }\n");
+                    appendDisplayed(out, field);
+                    break;
+                default:
+                    out.append("\n    public String get").append(property).append("() {\n");
+                    out.append("        return getElementText(").append(field.constant()).append(");\n");
+                    out.append("    }\n");
+                    appendDisplayed(out, field);
+                    break;
+            }
+        }
+
+        out.append("\n    /**\n     * Read every field in one round trip\n");
+        out.append("     * @return Field values keyed by field name, null for missing elements\n     */\n");
+        out.append("    public Map<String, String> readAll() {\n");
+        out.append("        List<String> values = readValues(READ_SELECTORS);\n");
+        out.append("        Map<String, String> result = new LinkedHashMap<>();\n");
+        for (int i = 0; i < fields.size(); i++) {
+            out.append("        result.put(\"").append(fields.get(i).name).append("\", values.get(")
+                    .append(i).append("));\n");
+        }
+        out.append("        return result;\n");
+        out.append("    }\n");
+
+        out.append("\n    /**\n     * Fill every input field in one round trip\n     */\n");
+        out.append("    public void fill(");
+        for (int i = 0; i < inputs.size(); i++) {
+            out.append(i > 0 ? ", " : "").append("String ").append(inputs.get(i).name);
+        }
+        out.append(") {\n");
+        out.append("        fillValues(FILL_SELECTORS, new String[] {");
+        for (int i = 0; i < inputs.size(); i++) {
+            out.append(i > 0 ? ", " : "").append(inputs.get(i).name);
+        }
+        out.append("});\n");
+        out.append("    }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static void appendDisplayed(StringBuilder out, FieldSpec field) {
+        out.append("\n    public boolean is").append(field.property()).append("Displayed() {\n");
+        out.append("        return isElementDisplayed(").append(field.constant()).append(");\n");
+        out.append("    }\n");
+    }
+
+    private static String joinSelectors(List<FieldSpec> fields) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            out.append(i > 0 ? ", " : "").append(literal(fields.get(i).cssSelector()));
+        }
+        return out.toString();
+    }
+
+    private static String packageOf(Element element) {
+        Element current = element;
+        while (!(current instanceof PackageElement)) {
+            current = current.getEnclosingElement();
+        }
+        return ((PackageElement) current).getQualifiedName().toString();
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private void error(Element element, String message) {
+        Messager messager = processingEnv.getMessager();
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * One validated @Field declaration
+     */
+    private static class FieldSpec {
+        private final String name;
+        private final String strategy;
+        private final String value;
+        private final Field.Kind kind;
+
+        private FieldSpec(String name, String strategy, String value, Field.Kind kind) {
+            this.name = name;
+            this.strategy = strategy;
+            this.value = value;
+            this.kind = kind;
+        }
+
+        static FieldSpec of(String name, Field field) {
+            List<FieldSpec> set = new ArrayList<>();
+            if (!field.id().isEmpty()) {
+                set.add(new FieldSpec(name, "id", field.id(), field.kind()));
+            }
+            if (!field.name().isEmpty()) {
+                set.add(new FieldSpec(name, "name", field.name(), field.kind()));
+            }
+            if (!field.className().isEmpty()) {
+                set.add(new FieldSpec(name, "className", field.className(), field.kind()));
+            }
+            if (!field.css().isEmpty()) {
+                set.add(new FieldSpec(name, "cssSelector", field.css(), field.kind()));
+            }
+            return set.size() == 1 ? set.get(0) : null;
+        }
+
+        String constant() {
+            return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+        }
+
+        String property() {
+            return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+
+        String byExpression() {
+            return "By." + strategy + "(" + literal(value) + ")";
+        }
+
+        String cssSelector() {
+            switch (strategy) {
+                case "id":
+                    return "[id='" + value + "']";
+                case "name":
+                    return "[name='" + value + "']";
+                case "className":
+                    return "." + value;
+                default:
+                    return value;
+            }
+        }
+    }
+}
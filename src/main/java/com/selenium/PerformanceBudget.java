@@ -0,0 +1,90 @@
+package com.selenium;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Upper limits for the navigation timing and network traffic of one page.
+ *
+ * Budgets are immutable; each with-method returns a copy with one more limit set.
+ */
+public class PerformanceBudget {
+
+    private static final PerformanceBudget UNLIMITED = new PerformanceBudget(-1, -1, -1);
+
+    private final long maxTtfbMillis;
+    private final long maxDomContentLoadedMillis;
+    private final int maxRequests;
+
+    private PerformanceBudget(long maxTtfbMillis, long maxDomContentLoadedMillis, int maxRequests) {
+        this.maxTtfbMillis = maxTtfbMillis;
+        this.maxDomContentLoadedMillis = maxDomContentLoadedMillis;
+        this.maxRequests = maxRequests;
+    }
+
+    /**
+     * Budget without any limits
+     * @return The shared unlimited budget
+     */
+    public static PerformanceBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Limit the time to first byte of the document
+     * @param maxTtfb The largest allowed time to first byte
+     * @return A budget with the limit applied
+     */
+    public PerformanceBudget withMaxTtfb(Duration maxTtfb) {
+        return new PerformanceBudget(toMillis(maxTtfb), maxDomContentLoadedMillis, maxRequests);
+    }
+
+    /**
+     * Limit the time until DOMContentLoaded has been handled
+     * @param maxDomContentLoaded The largest allowed DOMContentLoaded time
+     * @return A budget with the limit applied
+     */
+    public PerformanceBudget withMaxDomContentLoaded(Duration maxDomContentLoaded) {
+        return new PerformanceBudget(maxTtfbMillis, toMillis(maxDomContentLoaded), maxRequests);
+    }
+
+    /**
+     * Limit the number of network requests
+     * @param maxRequests The largest allowed number of requests
+     * @return A budget with the limit applied
+     */
+    public PerformanceBudget withMaxRequests(int maxRequests) {
+        if (maxRequests < 0) {
+            throw new IllegalArgumentException("maxRequests must not be negative: " + maxRequests);
+        }
+        return new PerformanceBudget(maxTtfbMillis, maxDomContentLoadedMillis, maxRequests);
+    }
+
+    /**
+     * Check measured metrics against the budget. Metrics that were not measured are not checked.
+     * @param metrics The measured metrics
+     * @return A description of every exceeded limit, empty if the page is within budget
+     */
+    public List<String> violations(PageMetrics metrics) {
+        List<String> violations = new ArrayList<>();
+        if (maxTtfbMillis >= 0 && metrics.getTtfbMillis() > maxTtfbMillis) {
+            violations.add("TTFB " + metrics.getTtfbMillis() + "ms > " + maxTtfbMillis + "ms");
+        }
+        if (maxDomContentLoadedMillis >= 0 && metrics.getDomContentLoadedMillis() > maxDomContentLoadedMillis) {
+            violations.add("DOMContentLoaded " + metrics.getDomContentLoadedMillis() + "ms > "
+                    + maxDomContentLoadedMillis + "ms");
+        }
+        if (maxRequests >= 0 && metrics.getRequestCount() > maxRequests) {
+            violations.add("requests " + metrics.getRequestCount() + " > " + maxRequests);
+        }
+        return violations;
+    }
+
+    private static long toMillis(Duration limit) {
+        if (limit == null || limit.isNegative()) {
+            throw new IllegalArgumentException("Limit must be a non-negative duration: " + limit);
+        }
+        return limit.toMillis();
+    }
+}
@@ -0,0 +1,298 @@
+package com.selenium;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.JsonInput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures navigation timing and network traffic of page actions and checks them against budgets.
+ *
+ * Timings come from the Navigation Timing API of the document. Requests are counted through
+ * raw DevTools Network events on Chromium browsers; elsewhere, or if DevTools is unavailable,
+ * they are taken from the Resource Timing entries, which misses requests the page made
+ * before the action and is limited by the browser's resource timing buffer. DevTools offers
+ * no way to remove a single listener, so each connection gets one pair of listeners that
+ * feeds every capture running on it, and the Network domain stays enabled while any
+ * capture is running; listeners registered by other code are left alone. Every
+ * measurement is appended to a JSONL report before the budget is checked, so regressions
+ * are recorded even when the test fails on them.
+ */
+public class PerformanceMonitor {
+
+    private static final String SNAPSHOT_SCRIPT =
+            "return [performance.timeOrigin, performance.getEntriesByType('resource').length];";
+
+    // arguments: timeOrigin and resource count when the action started
+    private static final String TIMING_SCRIPT =
+            "var newDocument = performance.timeOrigin !== arguments[0];"
+            + "var res = performance.getEntriesByType('resource');"
+            + "var from = newDocument ? 0 : Math.min(arguments[1], res.length);"
+            + "var bytes = 0;"
+            + "for (var i = from; i < res.length; i++) { bytes += res[i].transferSize || 0; }"
+            + "var result = { url: location.href, newDocument: newDocument, resources: res.length - from,"
+            + " bytes: bytes, ttfb: -1, dcl: -1, load: -1 };"
+            + "var nav = performance.getEntriesByType('navigation')[0];"
+            + "if (newDocument && nav) {"
+            + " result.ttfb = nav.responseStart;"
+            + " result.dcl = nav.domContentLoadedEventEnd > 0 ? nav.domContentLoadedEventEnd : -1;"
+            + " result.load = nav.loadEventEnd > 0 ? nav.loadEventEnd : -1;"
+            + " result.bytes += nav.transferSize || 0;"
+            + "} else if (newDocument && performance.timing) {"
+            + " var t = performance.timing;"
+            + " result.ttfb = t.responseStart - t.navigationStart;"
+            + " result.dcl = t.domContentLoadedEventEnd > 0 ? t.domContentLoadedEventEnd - t.navigationStart : -1;"
+            + " result.load = t.loadEventEnd > 0 ? t.loadEventEnd - t.navigationStart : -1;"
+            + "}"
+            + "return result;";
+
+    private static final Event<Void> REQUEST_WILL_BE_SENT = new Event<>("Network.requestWillBeSent", input -> {
+        input.skipValue();
+        return null;
+    });
+
+    private static final Event<Long> LOADING_FINISHED =
+            new Event<>("Network.loadingFinished", PerformanceMonitor::readEncodedDataLength);
+
+    // Running captures per DevTools connection; guarded by itself, each set by its own monitor
+    private static final Map<DevTools, Set<Capture>> CAPTURES = new WeakHashMap<>();
+
+    private final Path reportFile;
+    private final boolean useDevTools;
+    private final Map<String, PerformanceBudget> budgets = new ConcurrentHashMap<>();
+    private volatile PerformanceBudget defaultBudget = PerformanceBudget.unlimited();
+
+    public PerformanceMonitor(Path reportFile) {
+        this(reportFile, true);
+    }
+
+    /**
+     * Create a monitor
+     * @param reportFile The JSONL file measurements are appended to
+     * @param useDevTools Whether to count requests through DevTools where the browser supports it
+     */
+    public PerformanceMonitor(Path reportFile, boolean useDevTools) {
+        if (reportFile == null) {
+            throw new IllegalArgumentException("reportFile must not be null");
+        }
+        this.reportFile = reportFile;
+        this.useDevTools = useDevTools;
+    }
+
+    /**
+     * Set the budget for pages without a budget of their own
+     * @param budget The budget, or null for no limits
+     */
+    public void setDefaultBudget(PerformanceBudget budget) {
+        this.defaultBudget = budget == null ? PerformanceBudget.unlimited() : budget;
+    }
+
+    /**
+     * Set the budget of one page
+     * @param page The page object class name, e.g. LoginPage
+     * @param budget The budget, or null to use the default budget
+     */
+    public void setBudget(String page, PerformanceBudget budget) {
+        if (budget == null) {
+            budgets.remove(page);
+        } else {
+            budgets.put(page, budget);
+        }
+    }
+
+    /**
+     * Start capturing before a page action
+     * @param driver The driver that performs the action
+     * @return The capture to pass to finish()
+     */
+    public Capture start(WebDriver driver) {
+        Capture capture = new Capture(driver);
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                List<?> snapshot = (List<?>) ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT);
+                capture.startOrigin = snapshot.get(0);
+                capture.startResources = ((Number) snapshot.get(1)).intValue();
+            } catch (WebDriverException | ClassCastException | NullPointerException e) {
+                // No document yet (or no script support); every request after this point is new
+            }
+        }
+        if (useDevTools && driver instanceof HasDevTools) {
+            try {
+                DevTools devTools = ((HasDevTools) driver).maybeGetDevTools().orElse(null);
+                if (devTools != null) {
+                    devTools.createSessionIfThereIsNotOne();
+                    Set<Capture> running = running(devTools);
+                    synchronized (running) {
+                        if (running.isEmpty()) {
+                            devTools.send(new Command<>("Network.enable", new HashMap<>()));
+                        }
+                        running.add(capture);
+                    }
+                    capture.devTools = devTools;
+                }
+            } catch (WebDriverException e) {
+                // Fall back to Resource Timing
+            }
+        }
+        return capture;
+    }
+
+    /**
+     * Finish capturing after a page action, record the metrics and check the page budget
+     * @param capture The capture returned by start()
+     * @param page The page object class name
+     * @param action The action that was measured
+     * @return The measured metrics
+     * @throws AssertionError if the metrics exceed the page budget
+     */
+    public PageMetrics finish(Capture capture, String page, String action) {
+        PageMetrics metrics;
+        try {
+            metrics = measure(capture, page, action);
+        } finally {
+            capture.close();
+        }
+        append(metrics);
+        List<String> violations = budgets.getOrDefault(page, defaultBudget).violations(metrics);
+        if (!violations.isEmpty()) {
+            throw new AssertionError(page + "." + action + " exceeded its performance budget: "
+                    + String.join(", ", violations));
+        }
+        return metrics;
+    }
+
+    public Path getReportFile() {
+        return reportFile;
+    }
+
+    private PageMetrics measure(Capture capture, String page, String action) {
+        Map<?, ?> timing = null;
+        if (capture.driver instanceof JavascriptExecutor) {
+            try {
+                timing = (Map<?, ?>) ((JavascriptExecutor) capture.driver).executeScript(TIMING_SCRIPT,
+                        capture.startOrigin, capture.startResources);
+            } catch (WebDriverException | ClassCastException e) {
+                // Report what DevTools captured, if anything
+            }
+        }
+        boolean devTools = capture.devTools != null;
+        if (timing == null) {
+            return new PageMetrics(page, action, null, -1, -1, -1,
+                    devTools ? capture.requests.get() : -1, devTools ? capture.bytes.get() : -1,
+                    devTools ? "devtools" : "none");
+        }
+        boolean newDocument = Boolean.TRUE.equals(timing.get("newDocument"));
+        int requests = devTools ? capture.requests.get()
+                : number(timing, "resources").intValue() + (newDocument ? 1 : 0);
+        long bytes = devTools ? capture.bytes.get() : number(timing, "bytes").longValue();
+        return new PageMetrics(page, action, (String) timing.get("url"),
+                Math.round(number(timing, "ttfb").doubleValue()),
+                Math.round(number(timing, "dcl").doubleValue()),
+                Math.round(number(timing, "load").doubleValue()),
+                requests, bytes, devTools ? "devtools" : "js");
+    }
+
+    private synchronized void append(PageMetrics metrics) {
+        try {
+            if (reportFile.getParent() != null) {
+                Files.createDirectories(reportFile.getParent());
+            }
+            Files.write(reportFile, Arrays.asList(metrics.toJson()), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write performance report " + reportFile, e);
+        }
+    }
+
+    private static Set<Capture> running(DevTools devTools) {
+        synchronized (CAPTURES) {
+            Set<Capture> running = CAPTURES.get(devTools);
+            if (running == null) {
+                Set<Capture> captures = ConcurrentHashMap.newKeySet();
+                devTools.addListener(REQUEST_WILL_BE_SENT,
+                        ignored -> captures.forEach(capture -> capture.requests.incrementAndGet()));
+                devTools.addListener(LOADING_FINISHED,
+                        length -> captures.forEach(capture -> capture.bytes.addAndGet(length)));
+                running = captures;
+                CAPTURES.put(devTools, running);
+            }
+            return running;
+        }
+    }
+
+    private static Number number(Map<?, ?> timing, String key) {
+        Object value = timing.get(key);
+        return value instanceof Number ? (Number) value : -1;
+    }
+
+    private static Long readEncodedDataLength(JsonInput input) {
+        long length = 0;
+        input.beginObject();
+        while (input.hasNext()) {
+            if ("encodedDataLength".equals(input.nextName())) {
+                length = input.nextNumber().longValue();
+            } else {
+                input.skipValue();
+            }
+        }
+        input.endObject();
+        return length;
+    }
+
+    /**
+     * Traffic captured while one action runs
+     */
+    public static class Capture implements AutoCloseable {
+        private final WebDriver driver;
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicLong bytes = new AtomicLong();
+        private volatile DevTools devTools;
+        private Object startOrigin;
+        private int startResources;
+
+        Capture(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        /**
+         * Stop counting network events, disabling the Network domain if no other capture needs it
+         */
+        @Override
+        public void close() {
+            DevTools tools = devTools;
+            if (tools == null) {
+                return;
+            }
+            devTools = null;
+            Set<Capture> running = running(tools);
+            synchronized (running) {
+                if (running.remove(this) && running.isEmpty()) {
+                    try {
+                        tools.send(new Command<>("Network.disable", new HashMap<>()));
+                    } catch (WebDriverException e) {
+                        // Session is gone; nothing left to disable
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.selenium;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Upper bound on the retries a single test may spend.
+ *
+ * Share one budget between every page object of a test so that a test that keeps hitting
+ * transient failures fails quickly instead of retrying each operation to its limit.
+ */
+public class RetryBudget {
+    private final int limit;
+    private final AtomicInteger remaining;
+
+    /**
+     * Create a budget
+     * @param limit The number of retries the test may use in total
+     */
+    public RetryBudget(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative: " + limit);
+        }
+        this.limit = limit;
+        this.remaining = new AtomicInteger(limit);
+    }
+
+    /**
+     * Take one retry from the budget
+     * @return true if a retry was available
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = remaining.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (remaining.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+    }
+
+    public int getRemaining() {
+        return remaining.get();
+    }
+
+    /**
+     * Get the number of retries spent so far
+     * @return The number of retries used
+     */
+    public int getUsed() {
+        return limit - remaining.get();
+    }
+}
@@ -0,0 +1,141 @@
+package com.selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Retry policy for transient BasePage interaction failures.
+ *
+ * Stale elements, intercepted clicks and not-yet-interactable elements are retried up to
+ * maxAttempts times; each retry locates the element again with a short wait. Timeouts are
+ * never retried: a wait has already spent its full timeout, and a driver timeout may come
+ * after a click or keystrokes already reached the page. Attempts are
+ * separated by a full-jitter exponential backoff so parallel tests hitting the same slow
+ * page don't retry in lockstep. Retries are counted per locator across every page using
+ * the policy, which shows where flakiness comes from.
+ */
+public class RetryPolicy {
+
+    private static final List<Class<? extends RuntimeException>> RETRYABLE = Arrays.asList(
+            StaleElementReferenceException.class,
+            ElementClickInterceptedException.class,
+            ElementNotInteractableException.class);
+
+    private static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO);
+
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Map<By, LongAdder> retriesByLocator = new ConcurrentHashMap<>();
+
+    /**
+     * Create a retry policy
+     * @param maxAttempts Total attempts per operation, including the first one
+     * @param baseBackoff Upper bound of the delay before the first retry
+     * @param maxBackoff Upper bound of the delay before any retry
+     */
+    public RetryPolicy(int maxAttempts, Duration baseBackoff, Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+        }
+        if (baseBackoff == null || maxBackoff == null || baseBackoff.isNegative() || maxBackoff.isNegative()) {
+            throw new IllegalArgumentException("Backoff durations must be non-negative");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoff.toMillis();
+        this.maxBackoffMillis = Math.max(baseBackoff.toMillis(), maxBackoff.toMillis());
+    }
+
+    /**
+     * Policy that never retries
+     * @return The shared no-retry policy
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Policy with 3 attempts and 50ms to 1s jittered backoff
+     * @return A new default policy
+     */
+    public static RetryPolicy defaults() {
+        return new RetryPolicy(3, Duration.ofMillis(50), Duration.ofSeconds(1));
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Check if a failed attempt should be retried
+     * @param failure The exception thrown by the attempt
+     * @param attempt The number of the attempt that failed, starting at 1
+     * @return true if the operation should be attempted again
+     */
+    public boolean shouldRetry(RuntimeException failure, int attempt) {
+        if (attempt >= maxAttempts) {
+            return false;
+        }
+        for (Class<? extends RuntimeException> type : RETRYABLE) {
+            if (type.isInstance(failure)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the delay before the next attempt, chosen uniformly between zero and the
+     * exponential bound for this attempt
+     * @param attempt The number of the attempt that failed, starting at 1
+     * @return The delay in milliseconds
+     */
+    public long backoffMillis(int attempt) {
+        if (baseBackoffMillis == 0) {
+            return 0;
+        }
+        long bound = baseBackoffMillis << Math.min(attempt - 1, 20);
+        return ThreadLocalRandom.current().nextLong(Math.min(bound, maxBackoffMillis) + 1);
+    }
+
+    /**
+     * Record that an operation on a locator is being retried
+     * @param locator The locator of the element
+     */
+    public void recordRetry(By locator) {
+        if (locator != null) {
+            retriesByLocator.computeIfAbsent(locator, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Get the number of retries recorded for a locator
+     * @param locator The locator of the element
+     * @return The number of retries
+     */
+    public long getRetryCount(By locator) {
+        LongAdder count = retriesByLocator.get(locator);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Get the retry counts of every locator that was retried
+     * @return Retry counts keyed by locator description
+     */
+    public Map<String, Long> getRetryCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        retriesByLocator.forEach((locator, count) -> counts.put(locator.toString(), count.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+}
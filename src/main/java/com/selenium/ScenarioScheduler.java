@@ -0,0 +1,168 @@
+package com.selenium;
+
+import org.openqa.selenium.WebDriver;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Scheduler that runs page-object scenarios concurrently, one browser session per scenario.
+ *
+ * Scenarios spend almost all of their time blocked on WebDriver HTTP calls, so on JDK 21+
+ * each one runs on its own virtual thread. Concurrency is capped by a semaphore sized to the
+ * number of available browser sessions rather than by the number of OS threads.
+ * On older JDKs the scheduler falls back to a cached platform thread pool.
+ */
+public class ScenarioScheduler implements AutoCloseable {
+
+    /**
+     * System property that selects the thread mode: "virtual" (default) or "platform"
+     */
+    public static final String THREAD_MODE_PROPERTY = "scenario.threads";
+
+    /**
+     * A scenario that drives a single browser session
+     * @param <T> The scenario result type
+     */
+    @FunctionalInterface
+    public interface Scenario<T> {
+        T run(WebDriver driver) throws Exception;
+    }
+
+    private static final MethodHandle VIRTUAL_EXECUTOR_FACTORY = findVirtualExecutorFactory();
+
+    private final Semaphore sessions;
+    private final Supplier<WebDriver> driverSupplier;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+
+    /**
+     * Create a scheduler that creates drivers through WebDriverFactory
+     * @param maxSessions The number of browser sessions that may be open at once
+     * @param browserType The type of browser to create for each scenario
+     * @param headless Whether to run in headless mode
+     */
+    public ScenarioScheduler(int maxSessions, WebDriverFactory.BrowserType browserType, boolean headless) {
+        this(maxSessions, () -> WebDriverFactory.createDriver(browserType, headless));
+    }
+
+    /**
+     * Create a scheduler with a custom driver supplier
+     * @param maxSessions The number of browser sessions that may be open at once
+     * @param driverSupplier Supplier of a fresh driver for each scenario
+     */
+    public ScenarioScheduler(int maxSessions, Supplier<WebDriver> driverSupplier) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("maxSessions must be at least 1: " + maxSessions);
+        }
+        if (driverSupplier == null) {
+            throw new IllegalArgumentException("driverSupplier must not be null");
+        }
+        this.sessions = new Semaphore(maxSessions, true);
+        this.driverSupplier = driverSupplier;
+
+        ExecutorService virtualExecutor = null;
+        if (!"platform".equalsIgnoreCase(System.getProperty(THREAD_MODE_PROPERTY))) {
+            virtualExecutor = newVirtualThreadExecutor();
+        }
+        this.virtualThreads = virtualExecutor != null;
+        this.executor = virtualThreads ? virtualExecutor : Executors.newCachedThreadPool();
+    }
+
+    /**
+     * Check if the running JVM supports virtual threads
+     * @return true if virtual threads are available
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * Check if this scheduler runs scenarios on virtual threads
+     * @return true if scenarios run on virtual threads
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Submit a scenario to run on its own thread once a browser session is available.
+     * The driver is created after a session permit is acquired and is always quit afterwards.
+     * @param scenario The scenario to run
+     * @return Future holding the scenario result
+     */
+    public <T> Future<T> submit(Scenario<T> scenario) {
+        if (scenario == null) {
+            throw new IllegalArgumentException("scenario must not be null");
+        }
+        return executor.submit(() -> {
+            sessions.acquire();
+            WebDriver driver = null;
+            boolean passed = false;
+            try {
+                driver = driverSupplier.get();
+                T result = scenario.run(driver);
+                passed = true;
+                return result;
+            } finally {
+                SuiteMetrics.scenarioCompleted(passed);
+                try {
+                    WebDriverFactory.quitDriver(driver);
+                } finally {
+                    sessions.release();
+                }
+            }
+        });
+    }
+
+    /**
+     * Get the number of browser sessions currently free
+     * @return The number of free session permits
+     */
+    public int availableSessions() {
+        return sessions.availablePermits();
+    }
+
+    /**
+     * Stop accepting scenarios and wait for the submitted ones to finish
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // Keep waiting; scenarios own their sessions until they finish
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        if (VIRTUAL_EXECUTOR_FACTORY == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) VIRTUAL_EXECUTOR_FACTORY.invokeExact();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    // Looked up reflectively so the default JDK 11 build still compiles and runs
+    private static MethodHandle findVirtualExecutorFactory() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.selenium;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * One browser per worker thread, handing out cheap isolated contexts instead of new drivers.
+ *
+ * On Chromium browsers (Chrome, Edge) each context is a new DevTools browser context, the
+ * same mechanism as an incognito window: cookies, storage and cache are private to it and
+ * are thrown away when it is disposed. Other browsers have no equivalent (a new window shares
+ * cookies and storage of every origin with the rest of the browser), so there each context
+ * gets a browser of its own that is quit when the context closes, exactly as without sharing.
+ *
+ * A browser that fails while opening or closing a context is quit and replaced on next use.
+ * The launcher is typically a WebDriverFactory.createDriver call.
+ */
+public class SharedBrowser implements AutoCloseable {
+
+    private final Supplier<WebDriver> launcher;
+    private final ThreadLocal<WebDriver> browsers = new ThreadLocal<>();
+    private final List<WebDriver> launched = new CopyOnWriteArrayList<>();
+    private final AtomicInteger launchCount = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * Create a shared browser pool
+     * @param launcher Supplier that starts a new browser
+     */
+    public SharedBrowser(Supplier<WebDriver> launcher) {
+        if (launcher == null) {
+            throw new IllegalArgumentException("launcher must not be null");
+        }
+        this.launcher = launcher;
+    }
+
+    /**
+     * Open an isolated context in the current thread's browser, launching it if needed.
+     * The returned context's driver is focused on the new context until it is closed.
+     * @return The new context
+     */
+    public IsolatedContext openContext() {
+        if (closed) {
+            throw new IllegalStateException("SharedBrowser is closed");
+        }
+        WebDriver browser = browserForCurrentThread();
+        if (!(browser instanceof HasCdp)) {
+            // Not shareable; the next context launches its own browser
+            browsers.remove();
+            return new IsolatedContext(this, browser, null, null, null);
+        }
+        SuiteMetrics.sessionIdle(browser, false);
+        try {
+            String home = browser.getWindowHandle();
+            HasCdp cdp = (HasCdp) browser;
+            String contextId = (String) cdp.executeCdpCommand("Target.createBrowserContext", new HashMap<>())
+                    .get("browserContextId");
+            Map<String, Object> target = new HashMap<>();
+            target.put("url", "about:blank");
+            target.put("browserContextId", contextId);
+            // chromedriver uses DevTools target ids as window handles
+            String targetId = (String) cdp.executeCdpCommand("Target.createTarget", target).get("targetId");
+            browser.switchTo().window(targetId);
+            return new IsolatedContext(this, browser, home, targetId, contextId);
+        } catch (WebDriverException e) {
+            discard(browser);
+            throw e;
+        }
+    }
+
+    /**
+     * Get the number of browsers launched so far, including replaced ones
+     * @return The launch count
+     */
+    public int getLaunchCount() {
+        return launchCount.get();
+    }
+
+    /**
+     * Quit every browser started by this pool
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (WebDriver browser : launched) {
+            WebDriverFactory.quitDriver(browser);
+        }
+        launched.clear();
+    }
+
+    private WebDriver browserForCurrentThread() {
+        WebDriver browser = browsers.get();
+        // A browser discarded from another thread is no longer in launched
+        if (browser == null || !launched.contains(browser)) {
+            browser = launcher.get();
+            if (browser == null) {
+                throw new IllegalStateException("Browser launcher returned null");
+            }
+            launchCount.incrementAndGet();
+            launched.add(browser);
+            browsers.set(browser);
+        }
+        return browser;
+    }
+
+    // Also quits the dedicated browser of a non-Chromium context
+    private void discard(WebDriver browser) {
+        if (browsers.get() == browser) {
+            browsers.remove();
+        }
+        if (launched.remove(browser)) {
+            try {
+                WebDriverFactory.quitDriver(browser);
+            } catch (WebDriverException e) {
+                // Browser is already gone
+            }
+        }
+    }
+
+    /**
+     * An isolated browsing context; close it when the test is done
+     */
+    public static class IsolatedContext implements AutoCloseable {
+        private final SharedBrowser owner;
+        private final WebDriver driver;
+        private final String homeHandle;
+        private final String windowHandle;
+        private final String browserContextId;
+        private boolean closed;
+
+        IsolatedContext(SharedBrowser owner, WebDriver driver, String homeHandle, String windowHandle,
+                        String browserContextId) {
+            this.owner = owner;
+            this.driver = driver;
+            this.homeHandle = homeHandle;
+            this.windowHandle = windowHandle;
+            this.browserContextId = browserContextId;
+        }
+
+        /**
+         * Get the driver, focused on this context. Tests must not quit it.
+         * @return The shared driver, or the context's own driver on non-Chromium browsers
+         */
+        public WebDriver getDriver() {
+            return driver;
+        }
+
+        /**
+         * Get the window of this context
+         * @return The handle, or null if the context has a browser of its own
+         */
+        public String getWindowHandle() {
+            return windowHandle;
+        }
+
+        /**
+         * Get the DevTools browser context id
+         * @return The id, or null if the context has a browser of its own
+         */
+        public String getBrowserContextId() {
+            return browserContextId;
+        }
+
+        /**
+         * Dispose the context and return the browser to its home window
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (browserContextId == null) {
+                owner.discard(driver);
+                return;
+            }
+            try {
+                driver.switchTo().window(windowHandle);
+                driver.close();
+                Map<String, Object> dispose = new HashMap<>();
+                dispose.put("browserContextId", browserContextId);
+                ((HasCdp) driver).executeCdpCommand("Target.disposeBrowserContext", dispose);
+                driver.switchTo().window(homeHandle);
+                SuiteMetrics.sessionIdle(driver, true);
+            } catch (WebDriverException e) {
+                // Leaking state into the next test is worse than paying for a new browser
+                owner.discard(driver);
+            }
+        }
+    }
+}
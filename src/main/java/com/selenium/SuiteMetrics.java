@@ -0,0 +1,249 @@
+package com.selenium;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JVM-wide live counters of a running suite, read by MetricsServer.
+ *
+ * Test threads only ever add to LongAdder cells, so recording never contends with other
+ * test threads or with a scrape; readers sum the cells and may see a value that is a few
+ * updates behind. Sessions are counted from WebDriverFactory.createDriver and
+ * createRemoteDriver until they are quit. RemoteWebDriver.quit() clears the session id
+ * however it is called (WebDriverFactory.quitDriver, SharedBrowser, ScenarioScheduler or a
+ * test calling driver.quit() directly), so reading the session counts drops every session
+ * whose id is gone. A session is idle while SharedBrowser holds it between isolated
+ * contexts and active otherwise.
+ */
+public class SuiteMetrics {
+
+    private static final Set<WebDriver> OPEN_SESSIONS = ConcurrentHashMap.newKeySet();
+    private static final Set<WebDriver> IDLE_SESSIONS = ConcurrentHashMap.newKeySet();
+    private static final LongAdder WAIT_TIMEOUTS = new LongAdder();
+    private static final LongAdder SCENARIOS_PASSED = new LongAdder();
+    private static final LongAdder SCENARIOS_FAILED = new LongAdder();
+    private static final LongAdder TESTS_COMPLETED = new LongAdder();
+    private static final Map<String, LatencyHistogram> OPERATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Count a new browser session as active
+     * @param driver The session
+     */
+    public static void sessionOpened(WebDriver driver) {
+        if (driver != null) {
+            OPEN_SESSIONS.add(driver);
+        }
+    }
+
+    /**
+     * Stop counting a session; sessions that were never opened are ignored
+     * @param driver The session
+     */
+    public static void sessionClosed(WebDriver driver) {
+        if (driver != null && OPEN_SESSIONS.remove(driver)) {
+            IDLE_SESSIONS.remove(driver);
+        }
+    }
+
+    /**
+     * Mark an open session as idle or active
+     * @param driver The session
+     * @param idle Whether the session is waiting for work
+     */
+    public static void sessionIdle(WebDriver driver, boolean idle) {
+        if (driver == null) {
+            return;
+        }
+        if (!idle) {
+            IDLE_SESSIONS.remove(driver);
+        } else if (OPEN_SESSIONS.contains(driver)) {
+            IDLE_SESSIONS.add(driver);
+            // Closed concurrently; do not leave it behind
+            if (!OPEN_SESSIONS.contains(driver)) {
+                IDLE_SESSIONS.remove(driver);
+            }
+        }
+    }
+
+    /**
+     * Count a wait that gave up after its final attempt
+     */
+    public static void waitTimedOut() {
+        WAIT_TIMEOUTS.increment();
+    }
+
+    /**
+     * Count a finished ScenarioScheduler scenario
+     * @param passed Whether the scenario returned normally
+     */
+    public static void scenarioCompleted(boolean passed) {
+        (passed ? SCENARIOS_PASSED : SCENARIOS_FAILED).increment();
+    }
+
+    /**
+     * Count a finished test
+     */
+    public static void testCompleted() {
+        TESTS_COMPLETED.increment();
+    }
+
+    /**
+     * Record the latency of one page operation
+     * @param operation The operation name, e.g. clickElement
+     * @param nanos The time the operation took
+     */
+    public static void recordOperation(String operation, long nanos) {
+        LatencyHistogram histogram = OPERATIONS.get(operation);
+        if (histogram == null) {
+            histogram = OPERATIONS.computeIfAbsent(operation, key -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    public static int getActiveSessions() {
+        removeQuitSessions();
+        return Math.max(0, OPEN_SESSIONS.size() - IDLE_SESSIONS.size());
+    }
+
+    public static int getIdleSessions() {
+        removeQuitSessions();
+        return IDLE_SESSIONS.size();
+    }
+
+    private static void removeQuitSessions() {
+        for (WebDriver driver : OPEN_SESSIONS) {
+            if (driver instanceof RemoteWebDriver && ((RemoteWebDriver) driver).getSessionId() == null) {
+                sessionClosed(driver);
+            }
+        }
+    }
+
+    public static long getWaitTimeouts() {
+        return WAIT_TIMEOUTS.sum();
+    }
+
+    public static long getScenariosPassed() {
+        return SCENARIOS_PASSED.sum();
+    }
+
+    public static long getScenariosFailed() {
+        return SCENARIOS_FAILED.sum();
+    }
+
+    public static long getTestsCompleted() {
+        return TESTS_COMPLETED.sum();
+    }
+
+    /**
+     * Get the latency histograms recorded so far
+     * @return The histograms keyed by operation name, sorted by name
+     */
+    public static Map<String, LatencyHistogram> getOperations() {
+        return Collections.unmodifiableMap(new TreeMap<>(OPERATIONS));
+    }
+
+    /**
+     * Latency histogram with logarithmic buckets of four steps per power of two.
+     *
+     * Values are recorded in microseconds, so a reported percentile is the upper bound of the
+     * bucket holding it and is at most about 25% above the true value.
+     */
+    public static class LatencyHistogram {
+        private static final int SUB_BUCKETS = 4;
+        private static final int MAX_EXPONENT = 40;
+
+        private final LongAdder[] buckets = new LongAdder[(MAX_EXPONENT + 1) * SUB_BUCKETS];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        public LatencyHistogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Record one value
+         * @param nanos The latency
+         */
+        public void record(long nanos) {
+            long value = Math.max(0, nanos);
+            buckets[bucket(value / 1000)].increment();
+            count.increment();
+            totalNanos.add(value);
+            maxNanos.accumulate(value);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        /**
+         * Get a percentile
+         * @param percentile The percentile between 0 and 100
+         * @return The latency in nanoseconds, or 0 if nothing was recorded
+         */
+        public long percentileNanos(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+            }
+            long[] counts = new long[buckets.length];
+            long total = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    // Never report more than was actually seen
+                    return Math.min(upperBoundMicros(i) * 1000, getMaxNanos());
+                }
+            }
+            return getMaxNanos();
+        }
+
+        // Micros 0-3 get a bucket each; above that the two bits after the leading one pick the step
+        private static int bucket(long micros) {
+            if (micros < SUB_BUCKETS) {
+                return (int) micros;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(micros);
+            if (exponent > MAX_EXPONENT) {
+                return (MAX_EXPONENT + 1) * SUB_BUCKETS - 1;
+            }
+            int step = (int) (micros >> (exponent - 2)) & (SUB_BUCKETS - 1);
+            return (exponent - 1) * SUB_BUCKETS + step;
+        }
+
+        private static long upperBoundMicros(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int exponent = bucket / SUB_BUCKETS + 1;
+            long width = 1L << (exponent - 2);
+            return (SUB_BUCKETS + bucket % SUB_BUCKETS) * width + width - 1;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.selenium;
 
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
@@ -7,6 +8,8 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import java.net.URL;
 
 /**
  * WebDriver factory for creating and managing WebDriver instances
@@ -17,6 +20,12 @@ public class WebDriverFactory {
         CHROME, FIREFOX, EDGE
     }
     
+    /**
+     * System property that makes createDriver reuse cached driver binaries and long-lived
+     * driver services through DriverServicePool instead of starting a driver per session
+     */
+    public static final String REUSE_SERVICE_PROPERTY = "webdriver.reuseService";
+    
     /**
      * Create a WebDriver instance based on browser type
      * @param browserType The type of browser to create
@@ -27,39 +36,35 @@ public class WebDriverFactory {
     }
     
     /**
-     * Create a WebDriver instance based on browser type with headless option
+     * Create a WebDriver instance based on browser type with headless option.
+     * The session is counted in SuiteMetrics until it is quit through quitDriver.
      * @param browserType The type of browser to create
      * @param headless Whether to run in headless mode
      * @return WebDriver instance
      */
     public static WebDriver createDriver(BrowserType browserType, boolean headless) {
+        WebDriver driver = newDriver(browserType, headless);
+        SuiteMetrics.sessionOpened(driver);
+        return driver;
+    }
+    
+    private static WebDriver newDriver(BrowserType browserType, boolean headless) {
+        if (Boolean.getBoolean(REUSE_SERVICE_PROPERTY) && browserType != null) {
+            return DriverServicePool.shared().createDriver(browserType, createOptions(browserType, headless));
+        }
         WebDriver driver;
         
         switch (browserType) {
             case CHROME:
-                ChromeOptions chromeOptions = new ChromeOptions();
-                if (headless) {
-                    chromeOptions.addArguments("--headless");
-                }
-                chromeOptions.addArguments("--no-sandbox");
-                chromeOptions.addArguments("--disable-dev-shm-usage");
-                driver = new ChromeDriver(chromeOptions);
+                driver = new ChromeDriver(chromeOptions(headless));
                 break;
                 
             case FIREFOX:
-                FirefoxOptions firefoxOptions = new FirefoxOptions();
-                if (headless) {
-                    firefoxOptions.addArguments("--headless");
-                }
-                driver = new FirefoxDriver(firefoxOptions);
+                driver = new FirefoxDriver(firefoxOptions(headless));
                 break;
                 
             case EDGE:
-                EdgeOptions edgeOptions = new EdgeOptions();
-                if (headless) {
-                    edgeOptions.addArguments("--headless");
-                }
-                driver = new EdgeDriver(edgeOptions);
+                driver = new EdgeDriver(edgeOptions(headless));
                 break;
                 
             default:
@@ -69,6 +74,70 @@ public class WebDriverFactory {
         return driver;
     }
     
+    /**
+     * Create a RemoteWebDriver session on a Selenium Grid or standalone node
+     * @param serverUrl The URL of the grid or node
+     * @param browserType The type of browser to request
+     * @param headless Whether to run in headless mode
+     * @return RemoteWebDriver instance
+     */
+    public static WebDriver createRemoteDriver(URL serverUrl, BrowserType browserType, boolean headless) {
+        if (serverUrl == null) {
+            throw new IllegalArgumentException("serverUrl must not be null");
+        }
+        WebDriver driver = new RemoteWebDriver(serverUrl, createOptions(browserType, headless));
+        SuiteMetrics.sessionOpened(driver);
+        return driver;
+    }
+    
+    /**
+     * Create the browser options used for a browser type
+     * @param browserType The type of browser
+     * @param headless Whether to run in headless mode
+     * @return The browser options
+     */
+    public static Capabilities createOptions(BrowserType browserType, boolean headless) {
+        if (browserType == null) {
+            throw new IllegalArgumentException("Browser type not supported: null");
+        }
+        switch (browserType) {
+            case CHROME:
+                return chromeOptions(headless);
+            case FIREFOX:
+                return firefoxOptions(headless);
+            case EDGE:
+                return edgeOptions(headless);
+            default:
+                throw new IllegalArgumentException("Browser type not supported: " + browserType);
+        }
+    }
+    
+    private static ChromeOptions chromeOptions(boolean headless) {
+        ChromeOptions chromeOptions = new ChromeOptions();
+        if (headless) {
+            chromeOptions.addArguments("--headless");
+        }
+        chromeOptions.addArguments("--no-sandbox");
+        chromeOptions.addArguments("--disable-dev-shm-usage");
+        return chromeOptions;
+    }
+    
+    private static FirefoxOptions firefoxOptions(boolean headless) {
+        FirefoxOptions firefoxOptions = new FirefoxOptions();
+        if (headless) {
+            firefoxOptions.addArguments("--headless");
+        }
+        return firefoxOptions;
+    }
+    
+    private static EdgeOptions edgeOptions(boolean headless) {
+        EdgeOptions edgeOptions = new EdgeOptions();
+        if (headless) {
+            edgeOptions.addArguments("--headless");
+        }
+        return edgeOptions;
+    }
+    
     /**
      * Create a Chrome WebDriver instance
      * @return Chrome WebDriver instance
@@ -107,7 +176,11 @@ public class WebDriverFactory {
      */
     public static void quitDriver(WebDriver driver) {
         if (driver != null) {
-            driver.quit();
+            try {
+                driver.quit();
+            } finally {
+                SuiteMetrics.sessionClosed(driver);
+            }
         }
     }
 }
\ No newline at end of file
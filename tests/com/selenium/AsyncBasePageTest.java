@@ -0,0 +1,147 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import static org.mockito.Mockito.*;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.By;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JUnit test cases for AsyncBasePage class
+ */
+@DisplayName("AsyncBasePage Tests")
+public class AsyncBasePageTest {
+
+    @Mock
+    private WebDriver mockDriver;
+
+    @Mock
+    private WebElement mockElement;
+
+    private ExecutorService executor;
+    private AsyncBasePage asyncPage;
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        executor = Executors.newFixedThreadPool(4);
+        asyncPage = new AsyncBasePage(mockDriver, executor);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.shutdownNow();
+        if (closeable != null) {
+            closeable.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject null executor")
+    void testNullExecutor() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncBasePage(mockDriver, null));
+    }
+
+    @Test
+    @DisplayName("Should navigate and read title asynchronously")
+    void testNavigateAndTitle() {
+        when(mockDriver.getTitle()).thenReturn("Async Title");
+
+        CompletableFuture<Void> navigation = asyncPage.navigateTo("https://example.com");
+        CompletableFuture<String> title = asyncPage.getPageTitle();
+
+        assertEquals("Async Title", title.join());
+        assertTrue(navigation.isDone());
+        verify(mockDriver).get("https://example.com");
+    }
+
+    @Test
+    @DisplayName("Should run operations on one page in submission order")
+    void testOperationsAreSerialized() {
+        By locator = By.id("status");
+        when(mockDriver.findElement(locator)).thenReturn(mockElement);
+        when(mockElement.isDisplayed()).thenReturn(true);
+
+        asyncPage.navigateTo("https://example.com/one");
+        asyncPage.isElementDisplayed(locator);
+        asyncPage.navigateTo("https://example.com/two").join();
+
+        InOrder inOrder = inOrder(mockDriver);
+        inOrder.verify(mockDriver).get("https://example.com/one");
+        inOrder.verify(mockDriver).findElement(locator);
+        inOrder.verify(mockDriver).get("https://example.com/two");
+    }
+
+    @Test
+    @DisplayName("Should serialize operations of several pages on one driver")
+    void testPagesSharingDriverAreSerialized() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            release.await(5, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return null;
+        }).when(mockDriver).get(anyString());
+        when(mockDriver.getTitle()).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            running.decrementAndGet();
+            return "Next";
+        });
+        AsyncBasePage nextPage = new AsyncBasePage(mockDriver, executor);
+
+        CompletableFuture<Void> navigation = asyncPage.navigateTo("https://example.com/one");
+        CompletableFuture<String> title = nextPage.getPageTitle();
+        Thread.sleep(100);
+        assertFalse(title.isDone());
+        release.countDown();
+
+        assertEquals("Next", title.join());
+        assertTrue(navigation.isDone());
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("Should keep running queued operations after a failure")
+    void testFailureDoesNotBlockQueue() {
+        doThrow(new org.openqa.selenium.WebDriverException("navigation failed"))
+                .when(mockDriver).get("https://broken.example.com");
+        when(mockDriver.getTitle()).thenReturn("Recovered");
+
+        CompletableFuture<Void> failed = asyncPage.navigateTo("https://broken.example.com");
+        CompletableFuture<String> title = asyncPage.getPageTitle();
+
+        assertThrows(CompletionException.class, failed::join);
+        assertEquals("Recovered", title.join());
+    }
+
+    @Test
+    @DisplayName("Should fan out reads across several driver sessions")
+    void testFanOutAcrossSessions() {
+        WebDriver otherDriver = mock(WebDriver.class);
+        when(mockDriver.getTitle()).thenReturn("First");
+        when(otherDriver.getTitle()).thenReturn("Second");
+        AsyncBasePage otherPage = new AsyncBasePage(otherDriver, executor);
+
+        CompletableFuture<String> combined = asyncPage.getPageTitle()
+                .thenCombine(otherPage.getPageTitle(), (a, b) -> a + "," + b);
+
+        assertEquals("First,Second", combined.join());
+    }
+}
@@ -0,0 +1,80 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import static org.mockito.Mockito.*;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.By;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * JUnit test cases for AsyncLoginPage class
+ */
+@DisplayName("AsyncLoginPage Tests")
+public class AsyncLoginPageTest {
+
+    @Mock
+    private WebDriver mockDriver;
+
+    @Mock
+    private WebElement mockErrorMessage;
+
+    private ExecutorService executor;
+    private AsyncLoginPage asyncLoginPage;
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        executor = Executors.newSingleThreadExecutor();
+        asyncLoginPage = new AsyncLoginPage(mockDriver, executor);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.shutdownNow();
+        if (closeable != null) {
+            closeable.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should verify inheritance from AsyncBasePage")
+    void testInheritance() {
+        assertTrue(asyncLoginPage instanceof AsyncBasePage);
+        assertTrue(asyncLoginPage.getPage() instanceof LoginPage);
+    }
+
+    @Test
+    @DisplayName("Should navigate to login page asynchronously")
+    void testGoToLoginPage() {
+        asyncLoginPage.goToLoginPage("https://example.com").join();
+
+        verify(mockDriver).get("https://example.com/login");
+    }
+
+    @Test
+    @DisplayName("Should report error message visibility asynchronously")
+    void testIsErrorMessageDisplayed() {
+        when(mockDriver.findElement(By.className("error-message"))).thenReturn(mockErrorMessage);
+        when(mockErrorMessage.isDisplayed()).thenReturn(true);
+
+        assertTrue(asyncLoginPage.isErrorMessageDisplayed().join());
+    }
+
+    @Test
+    @DisplayName("Should report missing welcome message as not displayed")
+    void testIsWelcomeMessageDisplayedMissing() {
+        when(mockDriver.findElement(By.className("welcome-message")))
+                .thenThrow(new org.openqa.selenium.NoSuchElementException("Element not found"));
+
+        assertFalse(asyncLoginPage.isWelcomeMessageDisplayed().join());
+    }
+}
@@ -0,0 +1,124 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import org.openqa.selenium.remote.service.DriverService;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JUnit test cases for DriverDiscoveryCache and DriverServicePool classes
+ */
+@DisplayName("DriverDiscoveryCache Tests")
+public class DriverDiscoveryCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path driver;
+    private Path browser;
+    private Path cacheFile;
+    private AtomicInteger resolutions;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        driver = Files.write(tempDir.resolve("chromedriver"), new byte[] {1, 2, 3});
+        browser = Files.write(tempDir.resolve("chrome"), new byte[] {4, 5});
+        cacheFile = tempDir.resolve("cache/drivers.properties");
+        resolutions = new AtomicInteger();
+    }
+
+    private DriverDiscoveryCache cache(String seleniumVersion) {
+        return new DriverDiscoveryCache(cacheFile, browserType -> {
+            resolutions.incrementAndGet();
+            return new DriverDiscoveryCache.Resolution(driver.toString(), browser.toString());
+        }, seleniumVersion);
+    }
+
+    @Test
+    @DisplayName("Should resolve once per JVM and reuse the persisted result")
+    void testResolveOnce() {
+        DriverDiscoveryCache first = cache("4.15.0");
+        DriverDiscoveryCache.Resolution resolution = first.resolve(WebDriverFactory.BrowserType.CHROME);
+        first.resolve(WebDriverFactory.BrowserType.CHROME);
+
+        assertEquals(driver.toString(), resolution.getDriverPath());
+        assertEquals(browser.toString(), resolution.getBrowserPath());
+        assertEquals(1, resolutions.get());
+        assertTrue(Files.exists(cacheFile));
+
+        DriverDiscoveryCache.Resolution cached = cache("4.15.0").resolve(WebDriverFactory.BrowserType.CHROME);
+        assertEquals(driver.toString(), cached.getDriverPath());
+        assertEquals(1, resolutions.get());
+
+        cache("4.15.0").resolve(WebDriverFactory.BrowserType.EDGE);
+        assertEquals(2, resolutions.get());
+    }
+
+    @Test
+    @DisplayName("Should resolve again when binaries or the Selenium version change")
+    void testInvalidation() throws IOException {
+        cache("4.15.0").resolve(WebDriverFactory.BrowserType.CHROME);
+
+        Files.setLastModifiedTime(browser, FileTime.fromMillis(Files.getLastModifiedTime(browser).toMillis() - 60_000));
+        cache("4.15.0").resolve(WebDriverFactory.BrowserType.CHROME);
+        assertEquals(2, resolutions.get());
+
+        Files.write(driver, new byte[] {1, 2, 3, 4});
+        cache("4.15.0").resolve(WebDriverFactory.BrowserType.CHROME);
+        assertEquals(3, resolutions.get());
+
+        cache("4.16.0").resolve(WebDriverFactory.BrowserType.CHROME);
+        assertEquals(4, resolutions.get());
+
+        Files.write(cacheFile, "garbage \\u12".getBytes());
+        cache("4.16.0").resolve(WebDriverFactory.BrowserType.CHROME);
+        assertEquals(5, resolutions.get());
+    }
+
+    @Test
+    @DisplayName("Should reuse one running service per browser type")
+    void testServiceReuse() throws Exception {
+        DriverService service = mock(DriverService.class);
+        DriverService replacement = mock(DriverService.class);
+        when(service.getUrl()).thenReturn(new URL("http://localhost:9515"));
+        when(replacement.getUrl()).thenReturn(new URL("http://localhost:9516"));
+        when(service.isRunning()).thenReturn(true, true, false);
+        when(replacement.isRunning()).thenReturn(true);
+        DriverService[] services = {service, replacement};
+        AtomicInteger created = new AtomicInteger();
+
+        try (DriverServicePool pool = new DriverServicePool(cache("4.15.0"),
+                (browserType, resolution) -> services[created.getAndIncrement()])) {
+            assertEquals(9515, pool.serviceUrl(WebDriverFactory.BrowserType.CHROME).getPort());
+            assertEquals(9515, pool.serviceUrl(WebDriverFactory.BrowserType.CHROME).getPort());
+            verify(service, times(1)).start();
+
+            // The service died; the next session gets a new one
+            pool.serviceUrl(WebDriverFactory.BrowserType.CHROME);
+            assertEquals(9516, pool.serviceUrl(WebDriverFactory.BrowserType.CHROME).getPort());
+            verify(service).stop();
+            assertThrows(IllegalArgumentException.class,
+                    () -> pool.serviceUrl(WebDriverFactory.BrowserType.FIREFOX));
+        }
+        verify(replacement).stop();
+        assertEquals(1, resolutions.get());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid arguments")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new DriverDiscoveryCache.Resolution("", null));
+        assertNull(new DriverDiscoveryCache.Resolution("/usr/bin/chromedriver", "").getBrowserPath());
+        assertThrows(IllegalArgumentException.class, () -> new DriverDiscoveryCache(null, type -> null, "4.15.0"));
+        assertThrows(IllegalArgumentException.class, () -> new DriverServicePool(cache("4.15.0"), null));
+    }
+}
@@ -0,0 +1,54 @@
+package com.selenium;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the duration of every test into the TestDurationStore that ShardPlanner reads.
+ *
+ * Registered through META-INF/services so every surefire run contributes history. The log
+ * defaults to target/test-durations.log and can be moved with -Dtest.durations.file.
+ */
+public class DurationRecordingListener implements TestExecutionListener {
+
+    private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+    private final TestDurationStore store = new TestDurationStore(
+            Paths.get(System.getProperty("test.durations.file", "target/test-durations.log")));
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        Long start = startTimes.remove(testIdentifier.getUniqueId());
+        if (start == null || !(testIdentifier.getSource().orElse(null) instanceof MethodSource)) {
+            return;
+        }
+        MethodSource source = (MethodSource) testIdentifier.getSource().get();
+        try {
+            store.record(source.getClassName() + "#" + source.getMethodName(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            // Duration history is best effort and must never fail the suite
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        try {
+            store.compactIfNeeded();
+        } catch (IOException | RuntimeException e) {
+            // Compaction is retried on the next run
+        }
+    }
+}
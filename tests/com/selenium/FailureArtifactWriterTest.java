@@ -0,0 +1,156 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * JUnit test cases for FailureArtifactWriter class
+ */
+@DisplayName("FailureArtifactWriter Tests")
+public class FailureArtifactWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should reject invalid constructor arguments")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new FailureArtifactWriter(null));
+        assertThrows(IllegalArgumentException.class, () -> new FailureArtifactWriter(tempDir, 0));
+    }
+
+    @Test
+    @DisplayName("Should write screenshot, compressed DOM and index entry")
+    void testWriteArtifacts() throws IOException {
+        byte[] screenshot = {1, 2, 3};
+        try (FailureArtifactWriter writer = new FailureArtifactWriter(tempDir)) {
+            writer.submit("LoginPage-waitForElement-1", screenshot, "<html>login</html>");
+        }
+
+        assertArrayEquals(screenshot, Files.readAllBytes(tempDir.resolve("LoginPage-waitForElement-1.png")));
+        List<String> index = Files.readAllLines(tempDir.resolve(FailureArtifactWriter.INDEX_FILE));
+        assertEquals(1, index.size());
+        String[] columns = index.get(0).split("\t");
+        assertEquals("LoginPage-waitForElement-1", columns[0]);
+        assertEquals("<html>login</html>", readGzip(tempDir.resolve(columns[2])));
+    }
+
+    @Test
+    @DisplayName("Should write a snapshot again after a failed write")
+    void testRetriesFailedSnapshot() throws Exception {
+        String dom = "<html>retry</html>";
+        StringBuilder hash = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-256").digest(dom.getBytes(StandardCharsets.UTF_8))) {
+            hash.append(String.format("%02x", b));
+        }
+        // A directory in the way makes the first write fail
+        Path blocked = Files.createDirectory(tempDir.resolve("dom-" + hash + ".html.gz"));
+
+        try (FailureArtifactWriter writer = new FailureArtifactWriter(tempDir, 1)) {
+            writer.submit("first", null, dom);
+            writer.submit("second", null, dom);
+        }
+
+        List<String> index = Files.readAllLines(tempDir.resolve(FailureArtifactWriter.INDEX_FILE));
+        assertEquals(1, index.size());
+        assertEquals("second", index.get(0).split("\t")[0]);
+        assertTrue(Files.isRegularFile(blocked));
+        assertEquals(dom, readGzip(blocked));
+    }
+
+    @Test
+    @DisplayName("Should store identical DOM snapshots only once")
+    void testDeduplicatesSnapshots() throws IOException {
+        try (FailureArtifactWriter writer = new FailureArtifactWriter(tempDir, 1)) {
+            writer.submit("first", null, "<html>same</html>");
+            writer.submit("second", null, "<html>same</html>");
+            writer.submit("third", null, "<html>different</html>");
+        }
+
+        assertEquals(2, listSnapshots().size());
+        List<String> index = Files.readAllLines(tempDir.resolve(FailureArtifactWriter.INDEX_FILE));
+        assertEquals(3, index.size());
+        assertEquals(index.get(0).split("\t")[2], index.get(1).split("\t")[2]);
+        assertEquals("-", index.get(0).split("\t")[1]);
+    }
+
+    @Test
+    @DisplayName("Should sanitize artifact names and reject submits after close")
+    void testSanitizeAndClose() {
+        FailureArtifactWriter writer = new FailureArtifactWriter(tempDir);
+        writer.submit("a/b c", new byte[] {9}, null);
+        writer.close();
+
+        assertTrue(Files.exists(tempDir.resolve("a_b_c.png")));
+        assertNull(writer.getLastError());
+        assertThrows(IllegalStateException.class, () -> writer.submit("late", null, "<html/>"));
+    }
+
+    @Test
+    @DisplayName("Should write every accepted capture when closed during concurrent submits")
+    void testCloseDuringSubmits() throws Exception {
+        FailureArtifactWriter writer = new FailureArtifactWriter(tempDir, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch started = new CountDownLatch(1);
+        List<Future<Boolean>> submits = new ArrayList<>();
+        try {
+            for (int i = 0; i < 200; i++) {
+                String name = "capture-" + i;
+                submits.add(executor.submit(() -> {
+                    started.countDown();
+                    try {
+                        writer.submit(name, null, "<html>" + name + "</html>");
+                        return true;
+                    } catch (IllegalStateException e) {
+                        return false;
+                    }
+                }));
+            }
+            started.await();
+            writer.close();
+            long accepted = 0;
+            for (Future<Boolean> submit : submits) {
+                if (submit.get(10, TimeUnit.SECONDS)) {
+                    accepted++;
+                }
+            }
+
+            assertNull(writer.getLastError());
+            assertEquals(accepted, Files.readAllLines(tempDir.resolve(FailureArtifactWriter.INDEX_FILE)).size());
+            assertTrue(listSnapshots().stream()
+                    .allMatch(p -> p.getFileName().toString().matches("dom-[0-9a-f]{64}\\.html\\.gz")));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Path> listSnapshots() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(p -> p.getFileName().toString().startsWith("dom-")).collect(Collectors.toList());
+        }
+    }
+
+    private static String readGzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
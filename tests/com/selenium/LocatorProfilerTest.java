@@ -0,0 +1,164 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import static org.mockito.Mockito.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JUnit test cases for LocatorProfiler class
+ */
+@DisplayName("LocatorProfiler Tests")
+public class LocatorProfilerTest {
+
+    @Mock
+    private WebDriver mockDriver;
+
+    @Mock
+    private WebElement mockElement;
+
+    @TempDir
+    Path tempDir;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (closeable != null) {
+            closeable.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should translate simple XPath locators to id or CSS")
+    void testSuggestFaster() {
+        assertEquals(By.id("username"), LocatorProfiler.suggestFaster(By.xpath("//*[@id='username']")));
+        assertEquals(By.cssSelector("input[name='q']"), LocatorProfiler.suggestFaster(By.xpath("//input[@name=\"q\"]")));
+        assertEquals(By.cssSelector("form[id='login'] button"),
+                LocatorProfiler.suggestFaster(By.xpath("//form[@id='login']//button")));
+        assertEquals(By.cssSelector("ul > li"), LocatorProfiler.suggestFaster(By.xpath("//ul/li")));
+    }
+
+    @Test
+    @DisplayName("Should not suggest replacements it cannot prove equivalent")
+    void testNoSuggestion() {
+        assertNull(LocatorProfiler.suggestFaster(By.id("username")));
+        assertNull(LocatorProfiler.suggestFaster(By.xpath("//div[contains(@class,'error')]")));
+        assertNull(LocatorProfiler.suggestFaster(By.xpath("(//li)[2]")));
+        assertNull(LocatorProfiler.suggestFaster(By.xpath("//span[text()='Hi']")));
+        assertNull(LocatorProfiler.suggestFaster(null));
+    }
+
+    @Test
+    @DisplayName("Should substitute only verified replacements, per page")
+    void testResolveWithAutoSubstitution() {
+        By xpath = By.xpath("//*[@id='username']");
+        List<WebElement> found = Collections.singletonList(mockElement);
+        when(mockDriver.findElements(xpath)).thenReturn(found);
+        when(mockDriver.findElements(By.id("username"))).thenReturn(found);
+
+        LocatorProfiler profiler = new LocatorProfiler(500, true);
+
+        // Resolving never touches the DOM
+        assertEquals(xpath, profiler.resolve("LoginPage", xpath));
+        verifyNoInteractions(mockDriver);
+
+        profiler.record(mockDriver, "LoginPage", xpath, xpath, 1_000_000);
+        assertEquals(By.id("username"), profiler.resolve("LoginPage", xpath));
+        assertEquals(xpath, profiler.resolve("SearchPage", xpath));
+
+        profiler.record(mockDriver, "LoginPage", xpath, By.id("username"), 1_000_000);
+        verify(mockDriver, times(1)).findElements(xpath);
+        assertEquals(2, profiler.getStats("LoginPage").get(0).getCalls());
+    }
+
+    @Test
+    @DisplayName("Should verify a replacement only once the original finds elements")
+    void testVerifyAfterOriginalFindsElements() {
+        By xpath = By.xpath("//*[@id='username']");
+        when(mockDriver.findElements(xpath)).thenReturn(Collections.emptyList(),
+                Collections.singletonList(mockElement));
+        when(mockDriver.findElements(By.id("username"))).thenReturn(Collections.singletonList(mockElement));
+
+        LocatorProfiler profiler = new LocatorProfiler(500, true);
+
+        profiler.record(mockDriver, "LoginPage", xpath, xpath, 1_000_000);
+        verify(mockDriver, never()).findElements(By.id("username"));
+        assertEquals(xpath, profiler.resolve("LoginPage", xpath));
+
+        profiler.record(mockDriver, "LoginPage", xpath, xpath, 1_000_000);
+        assertEquals(By.id("username"), profiler.resolve("LoginPage", xpath));
+    }
+
+    @Test
+    @DisplayName("Should keep the original locator when the replacement finds other elements")
+    void testResolveRejectsMismatch() {
+        By xpath = By.xpath("//input[@name='q']");
+        when(mockDriver.findElements(xpath)).thenReturn(Collections.singletonList(mockElement));
+        when(mockDriver.findElements(By.cssSelector("input[name='q']"))).thenReturn(Collections.emptyList());
+
+        LocatorProfiler profiler = new LocatorProfiler(500, true);
+        profiler.record(mockDriver, "SearchPage", xpath, xpath, 1_000_000);
+
+        assertEquals(xpath, profiler.resolve("SearchPage", xpath));
+        assertNull(profiler.getStats("SearchPage").get(0).getSubstitute());
+    }
+
+    @Test
+    @DisplayName("Should only suggest replacements when auto-substitution is off")
+    void testResolveSuggestOnly() {
+        By xpath = By.xpath("//*[@id='username']");
+        List<WebElement> found = Collections.singletonList(mockElement);
+        when(mockDriver.findElements(xpath)).thenReturn(found);
+        when(mockDriver.findElements(By.id("username"))).thenReturn(found);
+
+        LocatorProfiler profiler = new LocatorProfiler();
+        profiler.record(mockDriver, "LoginPage", xpath, xpath, 1_000_000);
+
+        assertEquals(xpath, profiler.resolve("LoginPage", xpath));
+        assertEquals(By.id("username"), profiler.getStats("LoginPage").get(0).getSubstitute());
+        assertEquals(1, profiler.getStats("LoginPage").get(0).getMaxMatches());
+    }
+
+    @Test
+    @DisplayName("Should write per-page reports with slow and ambiguous flags")
+    void testWriteReport() throws Exception {
+        LocatorProfiler profiler = new LocatorProfiler(100, false);
+        profiler.record("LoginPage", By.id("username"), 5_000_000, 1);
+        profiler.record("LoginPage", By.className("error-message"), 300_000_000, 2);
+        profiler.record("HomePage", By.id("logo"), 1_000_000, 1);
+
+        List<Path> reports = profiler.writeReport(tempDir);
+
+        assertEquals(2, reports.size());
+        List<String> lines = Files.readAllLines(tempDir.resolve("LoginPage-locators.tsv"));
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(1).startsWith("By.className: error-message"));
+        assertTrue(lines.get(1).contains("SLOW,AMBIGUOUS"));
+        assertTrue(Arrays.asList(lines.get(2).split("\t")).contains("-"));
+    }
+
+    @Test
+    @DisplayName("Should reject negative slow threshold")
+    void testInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new LocatorProfiler(-1, false));
+    }
+}
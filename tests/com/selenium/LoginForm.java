@@ -0,0 +1,20 @@
+package com.selenium;
+
+/**
+ * Declarative description of the login page; PageObjectProcessor generates LoginFormPage from it
+ */
+@PageObject
+abstract class LoginForm {
+
+    @Field(id = "username", kind = Field.Kind.INPUT)
+    String username;
+
+    @Field(id = "password", kind = Field.Kind.INPUT)
+    String password;
+
+    @Field(id = "login-button", kind = Field.Kind.BUTTON)
+    String loginButton;
+
+    @Field(className = "error-message")
+    String errorMessage;
+}
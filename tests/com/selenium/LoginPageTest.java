@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -11,6 +12,10 @@ import static org.mockito.Mockito.*;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.By;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
 
 /**
  * JUnit test cases for LoginPage class
@@ -205,6 +210,29 @@ public class LoginPageTest {
         });
     }
 
+    @Test
+    @DisplayName("Should sample a login that shows the welcome message without navigating")
+    void testLoginMeasuredUntilWelcomeMessage(@TempDir Path tempDir) throws Exception {
+        PerformanceMonitor monitor = new PerformanceMonitor(tempDir.resolve("metrics.jsonl"));
+        loginPage.setPerformanceMonitor(monitor);
+        when(mockDriver.getCurrentUrl()).thenReturn("https://example.com/login");
+        when(mockDriver.findElement(By.id("username"))).thenReturn(mockUsernameElement);
+        when(mockDriver.findElement(By.id("password"))).thenReturn(mockPasswordElement);
+        when(mockDriver.findElement(By.id("login-button"))).thenReturn(mockLoginButton);
+        when(mockUsernameElement.isDisplayed()).thenReturn(true);
+        when(mockPasswordElement.isDisplayed()).thenReturn(true);
+        when(mockLoginButton.isDisplayed()).thenReturn(true);
+        when(mockLoginButton.isEnabled()).thenReturn(true);
+        when(mockDriver.findElements(By.className("welcome-message")))
+                .thenReturn(Collections.singletonList(mockWelcomeMessage));
+        when(mockWelcomeMessage.isDisplayed()).thenReturn(true);
+        
+        assertTimeout(Duration.ofSeconds(5), () -> loginPage.login("user", "secret"));
+        
+        verify(mockLoginButton).click();
+        assertTrue(Files.readAllLines(monitor.getReportFile()).get(0).contains("\"action\": \"login\""));
+    }
+
     // Note: Additional tests for enterUsername, enterPassword, clickLoginButton, login,
     // getErrorMessage, isErrorMessageDisplayed, getWelcomeMessage, isWelcomeMessageDisplayed,
     // and isLoginButtonEnabled would require more complex mocking of WebDriverWait
@@ -0,0 +1,48 @@
+package com.selenium;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import java.io.IOException;
+
+/**
+ * Counts finished tests in SuiteMetrics and, when -Dmetrics.port is set, serves the live
+ * metrics through MetricsServer for as long as the test plan runs.
+ *
+ * Registered through META-INF/services. A port that cannot be bound only disables the
+ * endpoint; it never fails the suite.
+ */
+public class MetricsListener implements TestExecutionListener {
+
+    private MetricsServer server;
+
+    @Override
+    public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+        String port = System.getProperty(MetricsServer.PORT_PROPERTY);
+        if (port == null || port.isEmpty() || server != null) {
+            return;
+        }
+        try {
+            server = new MetricsServer(Integer.parseInt(port.trim()));
+            System.out.println("Live metrics at http://127.0.0.1:" + server.getPort() + "/metrics");
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Metrics endpoint disabled: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (testIdentifier.isTest()) {
+            SuiteMetrics.testCompleted();
+        }
+    }
+
+    @Override
+    public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+        if (server != null) {
+            server.close();
+            server = null;
+        }
+    }
+}
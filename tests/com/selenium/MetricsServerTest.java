@@ -0,0 +1,145 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JUnit test cases for MetricsServer and SuiteMetrics classes
+ */
+@DisplayName("MetricsServer Tests")
+public class MetricsServerTest {
+
+    @Test
+    @DisplayName("Should report percentiles within one bucket of the true value")
+    void testLatencyHistogram() {
+        SuiteMetrics.LatencyHistogram histogram = new SuiteMetrics.LatencyHistogram();
+        assertEquals(0, histogram.percentileNanos(50));
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), histogram.getMaxNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5050), histogram.getTotalNanos());
+        long p50 = histogram.percentileNanos(50);
+        long p99 = histogram.percentileNanos(99);
+        assertTrue(p50 >= TimeUnit.MILLISECONDS.toNanos(50) && p50 <= TimeUnit.MILLISECONDS.toNanos(63), "p50 " + p50);
+        assertTrue(p99 >= TimeUnit.MILLISECONDS.toNanos(99) && p99 <= TimeUnit.MILLISECONDS.toNanos(100), "p99 " + p99);
+        assertEquals(histogram.getMaxNanos(), histogram.percentileNanos(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentileNanos(101));
+    }
+
+    @Test
+    @DisplayName("Should count sessions from creation until quitDriver")
+    @ResourceLock(SharedResources.SUITE_METRICS)
+    void testSessions() {
+        WebDriver driver = mock(WebDriver.class);
+        int active = SuiteMetrics.getActiveSessions();
+        int idle = SuiteMetrics.getIdleSessions();
+
+        SuiteMetrics.sessionOpened(driver);
+        assertEquals(active + 1, SuiteMetrics.getActiveSessions());
+        SuiteMetrics.sessionIdle(driver, true);
+        assertEquals(active, SuiteMetrics.getActiveSessions());
+        assertEquals(idle + 1, SuiteMetrics.getIdleSessions());
+
+        WebDriverFactory.quitDriver(driver);
+        verify(driver).quit();
+        assertEquals(active, SuiteMetrics.getActiveSessions());
+        assertEquals(idle, SuiteMetrics.getIdleSessions());
+
+        // Drivers not created by WebDriverFactory are not counted
+        SuiteMetrics.sessionIdle(driver, true);
+        WebDriverFactory.quitDriver(driver);
+        assertEquals(active, SuiteMetrics.getActiveSessions());
+        assertEquals(idle, SuiteMetrics.getIdleSessions());
+    }
+
+    @Test
+    @DisplayName("Should stop counting sessions quit without quitDriver")
+    @ResourceLock(SharedResources.SUITE_METRICS)
+    void testSessionQuitDirectly() {
+        RemoteWebDriver driver = mock(RemoteWebDriver.class);
+        when(driver.getSessionId()).thenReturn(new SessionId("session-1"));
+        int active = SuiteMetrics.getActiveSessions();
+        int idle = SuiteMetrics.getIdleSessions();
+
+        SuiteMetrics.sessionOpened(driver);
+        SuiteMetrics.sessionIdle(driver, true);
+        assertEquals(idle + 1, SuiteMetrics.getIdleSessions());
+
+        // RemoteWebDriver.quit() clears the session id
+        when(driver.getSessionId()).thenReturn(null);
+        assertEquals(active, SuiteMetrics.getActiveSessions());
+        assertEquals(idle, SuiteMetrics.getIdleSessions());
+    }
+
+    @Test
+    @DisplayName("Should count scenarios, wait timeouts and operation latency")
+    @ResourceLock(SharedResources.SUITE_METRICS)
+    void testCounters() throws Exception {
+        long passed = SuiteMetrics.getScenariosPassed();
+        long failed = SuiteMetrics.getScenariosFailed();
+        try (ScenarioScheduler scheduler = new ScenarioScheduler(2, () -> mock(WebDriver.class))) {
+            scheduler.submit(driver -> "ok").get();
+            assertThrows(Exception.class, () -> scheduler.submit(driver -> {
+                throw new IllegalStateException("boom");
+            }).get());
+        }
+        assertEquals(passed + 1, SuiteMetrics.getScenariosPassed());
+        assertEquals(failed + 1, SuiteMetrics.getScenariosFailed());
+
+        long timeouts = SuiteMetrics.getWaitTimeouts();
+        WebDriver driver = mock(WebDriver.class);
+        when(driver.findElement(any(By.class))).thenThrow(new TimeoutException("slow"));
+        BasePage page = new BasePage(driver);
+        page.setRetryPolicy(RetryPolicy.none());
+        assertThrows(TimeoutException.class, () -> page.clickElement(By.id("missing")));
+        assertEquals(timeouts + 1, SuiteMetrics.getWaitTimeouts());
+        assertTrue(SuiteMetrics.getOperations().get("clickElement").getCount() >= 1);
+    }
+
+    @Test
+    @DisplayName("Should serve the metrics on the loopback address")
+    @ResourceLock(SharedResources.SUITE_METRICS)
+    void testScrape() throws Exception {
+        SuiteMetrics.recordOperation("metricsServerTestOperation", TimeUnit.MILLISECONDS.toNanos(3));
+        try (MetricsServer server = new MetricsServer(0)) {
+            SuiteMetrics.scenarioCompleted(true);
+            HttpURLConnection connection = (HttpURLConnection)
+                    new URL("http://127.0.0.1:" + server.getPort() + "/metrics").openConnection();
+            assertEquals(200, connection.getResponseCode());
+            assertTrue(connection.getContentType().startsWith("text/plain"));
+            String body;
+            try (InputStream in = connection.getInputStream()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+
+            assertTrue(body.contains("selenium_sessions{state=\"active\"} "));
+            assertTrue(body.contains("selenium_wait_timeouts_total "));
+            assertTrue(body.contains("selenium_tests_completed_total "));
+            assertFalse(body.contains("per_second"));
+            assertTrue(body.contains("selenium_operation_seconds{operation=\"metricsServerTestOperation\",quantile=\"0.5\"} 0.003"));
+            assertTrue(body.contains("selenium_operation_seconds_count{operation=\"metricsServerTestOperation\"} 1"));
+
+            HttpURLConnection post = (HttpURLConnection)
+                    new URL("http://127.0.0.1:" + server.getPort() + "/metrics").openConnection();
+            post.setRequestMethod("POST");
+            assertEquals(405, post.getResponseCode());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new MetricsServer(70000));
+    }
+}
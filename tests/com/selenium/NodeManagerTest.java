@@ -0,0 +1,198 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JUnit test cases for NodeManager class
+ */
+@DisplayName("NodeManager Tests")
+public class NodeManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<URL> sessionUrls;
+    private NodeManager manager;
+
+    @BeforeEach
+    void setUp() {
+        sessionUrls = new CopyOnWriteArrayList<>();
+        manager = new NodeManager((url, browserType, headless) -> {
+            sessionUrls.add(url);
+            return mock(WebDriver.class);
+        }, tempDir);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.close();
+    }
+
+    @Test
+    @DisplayName("Should route sessions by browser type and load")
+    void testRouting() throws Exception {
+        URL chromeNode = new URL("http://node-a:4444");
+        URL mixedNode = new URL("http://node-b:4444");
+        manager.registerNode(chromeNode, EnumSet.of(WebDriverFactory.BrowserType.CHROME), 2);
+        manager.registerNode(mixedNode,
+                EnumSet.of(WebDriverFactory.BrowserType.CHROME, WebDriverFactory.BrowserType.FIREFOX), 4);
+
+        NodeManager.Session firefox = manager.acquire(WebDriverFactory.BrowserType.FIREFOX, true, Duration.ZERO);
+        NodeManager.Session chrome1 = manager.acquire(WebDriverFactory.BrowserType.CHROME, true, Duration.ZERO);
+        NodeManager.Session chrome2 = manager.acquire(WebDriverFactory.BrowserType.CHROME, true, Duration.ZERO);
+
+        assertEquals(mixedNode, firefox.getNode().getUrl());
+        assertEquals(chromeNode, chrome1.getNode().getUrl());
+        // node-a is half full, node-b a quarter
+        assertEquals(mixedNode, chrome2.getNode().getUrl());
+        assertEquals(2, manager.getNodes().get(1).getActiveSessions());
+
+        chrome1.close();
+        chrome1.close();
+        verify(chrome1.getDriver(), times(1)).quit();
+        assertEquals(0, manager.getNodes().get(0).getActiveSessions());
+    }
+
+    @Test
+    @DisplayName("Should queue until a slot frees up")
+    void testQueueing() throws Exception {
+        manager.registerNode(new URL("http://node-a:4444"), EnumSet.of(WebDriverFactory.BrowserType.EDGE), 1);
+        NodeManager.Session first = manager.acquire(WebDriverFactory.BrowserType.EDGE, false, Duration.ZERO);
+
+        CompletableFuture<NodeManager.Session> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return manager.acquire(WebDriverFactory.BrowserType.EDGE, false, Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(waiting.isDone());
+
+        first.close();
+        NodeManager.Session second = waiting.get(5, TimeUnit.SECONDS);
+        assertEquals(1, second.getNode().getActiveSessions());
+    }
+
+    @Test
+    @DisplayName("Should time out when no slot frees up")
+    void testTimeout() throws Exception {
+        manager.registerNode(new URL("http://node-a:4444"), EnumSet.of(WebDriverFactory.BrowserType.CHROME), 1);
+        manager.acquire(WebDriverFactory.BrowserType.CHROME, true, Duration.ZERO);
+
+        assertThrows(TimeoutException.class,
+                () -> manager.acquire(WebDriverFactory.BrowserType.CHROME, true, Duration.ofMillis(50)));
+        assertThrows(IllegalArgumentException.class,
+                () -> manager.acquire(WebDriverFactory.BrowserType.FIREFOX, true, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Should free the slot when session creation fails")
+    void testCreationFailure() throws Exception {
+        NodeManager failing = new NodeManager((url, browserType, headless) -> {
+            throw new SessionNotCreatedException("no browser");
+        }, tempDir);
+        NodeManager.Node node = failing.registerNode(new URL("http://node-a:4444"),
+                EnumSet.of(WebDriverFactory.BrowserType.CHROME), 1);
+
+        assertThrows(SessionNotCreatedException.class,
+                () -> failing.acquire(WebDriverFactory.BrowserType.CHROME, true, Duration.ZERO));
+        assertEquals(0, node.getActiveSessions());
+        assertFalse(node.isLocal());
+    }
+
+    @Test
+    @DisplayName("Should read node readiness from the status endpoint")
+    void testIsReady() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/status", exchange -> {
+            byte[] body = "{\"value\": {\"ready\": true, \"message\": \"Selenium Grid ready.\"}}"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        try {
+            URL url = new URL("http://127.0.0.1:" + server.getAddress().getPort());
+            assertTrue(NodeManager.isReady(url));
+
+            NodeManager.Node unreachable = manager.registerNode(new URL("http://127.0.0.1:1"),
+                    EnumSet.of(WebDriverFactory.BrowserType.CHROME), 1);
+            NodeManager.Node ready = manager.registerNode(url, EnumSet.of(WebDriverFactory.BrowserType.CHROME), 1);
+            manager.supervise();
+            assertFalse(unreachable.isHealthy());
+            assertTrue(ready.isHealthy());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep busy nodes and take out nodes that keep failing")
+    void testSuperviseBusyAndFailing() throws Exception {
+        String[] response = {"{\"value\": {\"ready\": false}}"};
+        int[] code = {200};
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/status", exchange -> {
+            byte[] body = response[0].getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(code[0], body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        try {
+            URL url = new URL("http://127.0.0.1:" + server.getAddress().getPort());
+            NodeManager.Node node = manager.registerNode(url, EnumSet.of(WebDriverFactory.BrowserType.CHROME), 1);
+
+            manager.supervise();
+            assertTrue(node.isHealthy());
+
+            code[0] = 500;
+            for (int i = 1; i < NodeManager.MAX_FAILED_CHECKS; i++) {
+                manager.supervise();
+                assertTrue(node.isHealthy());
+            }
+            manager.supervise();
+            assertFalse(node.isHealthy());
+
+            code[0] = 200;
+            manager.supervise();
+            assertTrue(node.isHealthy());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid nodes")
+    void testInvalidNodes() throws Exception {
+        URL url = new URL("http://node-a:4444");
+        assertThrows(IllegalArgumentException.class,
+                () -> manager.registerNode(url, EnumSet.noneOf(WebDriverFactory.BrowserType.class), 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> manager.registerNode(url, EnumSet.of(WebDriverFactory.BrowserType.CHROME), 0));
+        assertThrows(IllegalArgumentException.class, () -> manager.launchLocalNode(tempDir.resolve("missing.jar"),
+                4444, EnumSet.of(WebDriverFactory.BrowserType.CHROME), 1, Duration.ofSeconds(1)));
+    }
+}
@@ -0,0 +1,111 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JUnit test cases for PageObjectProcessor class, using the LoginFormPage it generates from LoginForm
+ */
+@DisplayName("PageObjectProcessor Tests")
+public class PageObjectProcessorTest {
+
+    private WebDriver mockDriver;
+
+    @BeforeEach
+    void setUp() {
+        mockDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    }
+
+    @Test
+    @DisplayName("Should generate precomputed locators and BasePage subclass")
+    void testGeneratedLocators() {
+        assertEquals(By.id("username"), LoginFormPage.USERNAME);
+        assertEquals(By.id("login-button"), LoginFormPage.LOGIN_BUTTON);
+        assertEquals(By.className("error-message"), LoginFormPage.ERROR_MESSAGE);
+        assertTrue(new LoginFormPage(mockDriver) instanceof BasePage);
+    }
+
+    @Test
+    @DisplayName("Should delegate generated accessors to BasePage")
+    void testGeneratedAccessors() {
+        WebElement error = mock(WebElement.class);
+        when(mockDriver.findElement(LoginFormPage.ERROR_MESSAGE)).thenReturn(error);
+        when(error.isDisplayed()).thenReturn(true);
+
+        assertTrue(new LoginFormPage(mockDriver).isErrorMessageDisplayed());
+    }
+
+    @Test
+    @DisplayName("Should read every field in one script round trip")
+    void testReadAll() {
+        when(((JavascriptExecutor) mockDriver).executeScript(anyString(), any()))
+                .thenReturn(Arrays.asList("alice", "", "Log in", null));
+
+        Map<String, String> values = new LoginFormPage(mockDriver).readAll();
+
+        assertEquals(Arrays.asList("username", "password", "loginButton", "errorMessage"),
+                Arrays.asList(values.keySet().toArray()));
+        assertEquals("alice", values.get("username"));
+        assertNull(values.get("errorMessage"));
+        verify((JavascriptExecutor) mockDriver, times(1)).executeScript(anyString(),
+                eq(Arrays.asList("[id='username']", "[id='password']", "[id='login-button']", ".error-message")));
+    }
+
+    @Test
+    @DisplayName("Should fill every input field in one script round trip")
+    void testFill() {
+        WebElement username = mock(WebElement.class);
+        when(mockDriver.findElement(By.cssSelector("[id='username']"))).thenReturn(username);
+        when(username.isDisplayed()).thenReturn(true);
+
+        new LoginFormPage(mockDriver).fill("alice", "secret");
+
+        verify((JavascriptExecutor) mockDriver).executeScript(anyString(),
+                eq(Arrays.asList("[id='username']", "[id='password']")), eq(Arrays.asList("alice", "secret")));
+        verify(username, never()).sendKeys(any());
+    }
+
+    @Test
+    @DisplayName("Should reject fields with more than one locator")
+    void testInvalidFieldReported() {
+        String source = "package demo;\n"
+                + "import com.selenium.Field;\n"
+                + "import com.selenium.PageObject;\n"
+                + "@PageObject abstract class Broken {\n"
+                + "    @Field(id = \"a\", css = \"#a\") String both;\n"
+                + "}\n";
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///demo/Broken.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                "-proc:only", "-processor", PageObjectProcessor.class.getName());
+
+        boolean success = compiler.getTask(null, null, diagnostics, options, null, Collections.singletonList(file)).call();
+
+        assertFalse(success);
+        assertTrue(diagnostics.getDiagnostics().stream()
+                .anyMatch(d -> d.getMessage(null).contains("exactly one of id, name, className or css")));
+    }
+}
@@ -0,0 +1,177 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * JUnit test cases for PerformanceMonitor class
+ */
+@DisplayName("PerformanceMonitor Tests")
+public class PerformanceMonitorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static Map<String, Object> timing(boolean newDocument, long resources) {
+        Map<String, Object> timing = new HashMap<>();
+        timing.put("url", "https://example.com/login");
+        timing.put("newDocument", newDocument);
+        timing.put("resources", resources);
+        timing.put("bytes", 2048L);
+        timing.put("ttfb", newDocument ? 120.4 : -1L);
+        timing.put("dcl", newDocument ? 480.6 : -1L);
+        timing.put("load", newDocument ? 900L : -1L);
+        return timing;
+    }
+
+    private static WebDriver scriptDriver(Map<String, Object> timing) {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        when(js.executeScript(contains("performance.timeOrigin, "))).thenReturn(Arrays.asList(1.7E12, 3L));
+        when(js.executeScript(contains("newDocument"), any(), any())).thenReturn(timing);
+        return driver;
+    }
+
+    @Test
+    @DisplayName("Should measure navigation timing from the page and append JSONL")
+    void testScriptMeasurement() throws Exception {
+        PerformanceMonitor monitor = new PerformanceMonitor(tempDir.resolve("perf/metrics.jsonl"));
+        WebDriver driver = scriptDriver(timing(true, 7));
+
+        PageMetrics metrics = monitor.finish(monitor.start(driver), "LoginPage", "navigateTo");
+
+        assertEquals(120, metrics.getTtfbMillis());
+        assertEquals(481, metrics.getDomContentLoadedMillis());
+        assertEquals(900, metrics.getLoadMillis());
+        assertEquals(8, metrics.getRequestCount());
+        assertEquals("js", metrics.getSource());
+        verify((JavascriptExecutor) driver).executeScript(contains("newDocument"), eq(1.7E12), eq(3));
+
+        List<String> lines = Files.readAllLines(monitor.getReportFile());
+        assertEquals(1, lines.size());
+        // The JSON writer escapes '/' as a unicode escape
+        assertEquals("{\"page\": \"LoginPage\",\"action\": \"navigateTo\","
+                + "\"url\": \"https:\\u002f\\u002fexample.com\\u002flogin\","
+                + "\"ttfbMs\": 120,\"domContentLoadedMs\": 481,\"loadMs\": 900,\"requests\": 8,"
+                + "\"transferBytes\": 2048,\"source\": \"js\"}", lines.get(0));
+    }
+
+    @Test
+    @DisplayName("Should not report document timings for actions without a navigation")
+    void testSameDocument() {
+        PerformanceMonitor monitor = new PerformanceMonitor(tempDir.resolve("metrics.jsonl"));
+        monitor.setDefaultBudget(PerformanceBudget.unlimited().withMaxTtfb(Duration.ofMillis(1)));
+
+        PageMetrics metrics = monitor.finish(monitor.start(scriptDriver(timing(false, 2))), "LoginPage", "login");
+
+        assertEquals(-1, metrics.getTtfbMillis());
+        assertEquals(2, metrics.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("Should fail actions that exceed the page budget after recording them")
+    void testBudgetViolation() throws Exception {
+        PerformanceMonitor monitor = new PerformanceMonitor(tempDir.resolve("metrics.jsonl"));
+        monitor.setDefaultBudget(PerformanceBudget.unlimited().withMaxRequests(100));
+        monitor.setBudget("LoginPage", PerformanceBudget.unlimited()
+                .withMaxTtfb(Duration.ofMillis(100))
+                .withMaxDomContentLoaded(Duration.ofSeconds(1))
+                .withMaxRequests(5));
+
+        AssertionError error = assertThrows(AssertionError.class, () -> monitor.finish(
+                monitor.start(scriptDriver(timing(true, 7))), "LoginPage", "navigateTo"));
+
+        assertEquals("LoginPage.navigateTo exceeded its performance budget: TTFB 120ms > 100ms, requests 8 > 5",
+                error.getMessage());
+        assertEquals(1, Files.readAllLines(monitor.getReportFile()).size());
+        assertDoesNotThrow(() -> monitor.finish(monitor.start(scriptDriver(timing(true, 7))), "HomePage", "navigateTo"));
+        assertThrows(IllegalArgumentException.class, () -> PerformanceBudget.unlimited().withMaxRequests(-1));
+    }
+
+    @Test
+    @DisplayName("Should count requests through DevTools when available")
+    @SuppressWarnings("unchecked")
+    void testDevToolsCapture() {
+        WebDriver driver = mock(WebDriver.class,
+                withSettings().extraInterfaces(JavascriptExecutor.class, HasDevTools.class));
+        DevTools devTools = mock(DevTools.class);
+        when(((HasDevTools) driver).maybeGetDevTools()).thenReturn(Optional.of(devTools));
+        when(((JavascriptExecutor) driver).executeScript(contains("newDocument"), any(), any()))
+                .thenReturn(timing(true, 7));
+        PerformanceMonitor monitor = new PerformanceMonitor(tempDir.resolve("metrics.jsonl"));
+
+        PerformanceMonitor.Capture capture = monitor.start(driver);
+        ArgumentCaptor<Event<Object>> events = ArgumentCaptor.forClass(Event.class);
+        ArgumentCaptor<Consumer<Object>> listeners = ArgumentCaptor.forClass(Consumer.class);
+        verify(devTools, times(2)).addListener(events.capture(), listeners.capture());
+        assertEquals("Network.requestWillBeSent", events.getAllValues().get(0).getMethod());
+        listeners.getAllValues().get(0).accept(null);
+        listeners.getAllValues().get(0).accept(null);
+        listeners.getAllValues().get(1).accept(512L);
+
+        PageMetrics metrics = monitor.finish(capture, "LoginPage", "login");
+
+        assertEquals(2, metrics.getRequestCount());
+        assertEquals(512, metrics.getTransferBytes());
+        assertEquals(120, metrics.getTtfbMillis());
+        assertEquals("devtools", metrics.getSource());
+        ArgumentCaptor<Command<Object>> commands = ArgumentCaptor.forClass(Command.class);
+        verify(devTools, times(2)).send(commands.capture());
+        assertEquals("Network.disable", commands.getAllValues().get(1).getMethod());
+        verify(devTools, never()).clearListeners();
+    }
+
+    @Test
+    @DisplayName("Should share DevTools listeners between overlapping captures")
+    @SuppressWarnings("unchecked")
+    void testOverlappingDevToolsCaptures() {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(HasDevTools.class));
+        DevTools devTools = mock(DevTools.class);
+        when(((HasDevTools) driver).maybeGetDevTools()).thenReturn(Optional.of(devTools));
+        PerformanceMonitor monitor = new PerformanceMonitor(tempDir.resolve("metrics.jsonl"));
+
+        PerformanceMonitor.Capture outer = monitor.start(driver);
+        PerformanceMonitor.Capture inner = monitor.start(driver);
+        ArgumentCaptor<Consumer<Object>> listeners = ArgumentCaptor.forClass(Consumer.class);
+        verify(devTools, times(2)).addListener(any(Event.class), listeners.capture());
+        listeners.getAllValues().get(0).accept(null);
+
+        assertEquals(1, monitor.finish(inner, "LoginPage", "enterUsername").getRequestCount());
+        ArgumentCaptor<Command<Object>> commands = ArgumentCaptor.forClass(Command.class);
+        verify(devTools, times(1)).send(commands.capture());
+        assertEquals("Network.enable", commands.getValue().getMethod());
+
+        listeners.getAllValues().get(0).accept(null);
+        assertEquals(2, monitor.finish(outer, "LoginPage", "login").getRequestCount());
+        verify(devTools, times(2)).send(any(Command.class));
+        verify(devTools, never()).clearListeners();
+    }
+
+    @Test
+    @DisplayName("Should reject null report file")
+    void testNullReportFile() {
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceMonitor(null));
+    }
+}
@@ -0,0 +1,87 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import java.time.Duration;
+
+/**
+ * JUnit test cases for RetryPolicy class
+ */
+@DisplayName("RetryPolicy Tests")
+public class RetryPolicyTest {
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(0, Duration.ZERO, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(2, Duration.ofMillis(-1), Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(2, null, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Should retry only transient failures within max attempts")
+    void testShouldRetry() {
+        RetryPolicy policy = new RetryPolicy(3, Duration.ZERO, Duration.ZERO);
+
+        assertTrue(policy.shouldRetry(new StaleElementReferenceException("stale"), 1));
+        assertTrue(policy.shouldRetry(new ElementClickInterceptedException("covered"), 2));
+        assertFalse(policy.shouldRetry(new TimeoutException("slow"), 1));
+        assertFalse(policy.shouldRetry(new StaleElementReferenceException("stale"), 3));
+        assertFalse(policy.shouldRetry(new NoSuchElementException("missing"), 1));
+        assertFalse(policy.shouldRetry(new IllegalStateException("bug"), 1));
+    }
+
+    @Test
+    @DisplayName("Should never retry with the none policy")
+    void testNonePolicy() {
+        assertEquals(1, RetryPolicy.none().getMaxAttempts());
+        assertFalse(RetryPolicy.none().shouldRetry(new StaleElementReferenceException("stale"), 1));
+    }
+
+    @Test
+    @DisplayName("Should keep jittered backoff within exponential bounds")
+    void testBackoffBounds() {
+        RetryPolicy policy = new RetryPolicy(10, Duration.ofMillis(10), Duration.ofMillis(40));
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(policy.backoffMillis(1) <= 10);
+            assertTrue(policy.backoffMillis(2) <= 20);
+            assertTrue(policy.backoffMillis(8) <= 40);
+            assertTrue(policy.backoffMillis(1) >= 0);
+        }
+        assertEquals(0, new RetryPolicy(3, Duration.ZERO, Duration.ZERO).backoffMillis(2));
+    }
+
+    @Test
+    @DisplayName("Should count retries per locator")
+    void testRetryCounts() {
+        RetryPolicy policy = RetryPolicy.defaults();
+        policy.recordRetry(By.id("a"));
+        policy.recordRetry(By.id("a"));
+        policy.recordRetry(By.id("b"));
+        policy.recordRetry(null);
+
+        assertEquals(2, policy.getRetryCount(By.id("a")));
+        assertEquals(0, policy.getRetryCount(By.id("c")));
+        assertEquals(Long.valueOf(1), policy.getRetryCounts().get("By.id: b"));
+    }
+
+    @Test
+    @DisplayName("Should hand out retries until the budget is spent")
+    void testRetryBudget() {
+        RetryBudget budget = new RetryBudget(2);
+
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        assertEquals(0, budget.getRemaining());
+        assertEquals(2, budget.getUsed());
+        assertThrows(IllegalArgumentException.class, () -> new RetryBudget(-1));
+    }
+}
@@ -0,0 +1,93 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import org.openqa.selenium.WebDriver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JUnit test cases for ScenarioScheduler class
+ */
+@DisplayName("ScenarioScheduler Tests")
+public class ScenarioSchedulerTest {
+
+    @Test
+    @DisplayName("Should reject invalid constructor arguments")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioScheduler(0, () -> mock(WebDriver.class)));
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioScheduler(1, null));
+    }
+
+    @Test
+    @DisplayName("Should use virtual threads only when the JVM supports them")
+    @ResourceLock(value = SharedResources.SYSTEM_PROPERTIES, mode = ResourceAccessMode.READ)
+    void testVirtualThreadDetection() {
+        try (ScenarioScheduler scheduler = new ScenarioScheduler(1, () -> mock(WebDriver.class))) {
+            assertEquals(ScenarioScheduler.isVirtualThreadSupported(), scheduler.usesVirtualThreads());
+        }
+    }
+
+    @Test
+    @DisplayName("Should run scenario with a fresh driver and quit it afterwards")
+    @ResourceLock(SharedResources.SUITE_METRICS)
+    void testSubmitQuitsDriver() throws Exception {
+        WebDriver driver = mock(WebDriver.class);
+        when(driver.getTitle()).thenReturn("Home");
+
+        try (ScenarioScheduler scheduler = new ScenarioScheduler(1, () -> driver)) {
+            Future<String> result = scheduler.submit(WebDriver::getTitle);
+            assertEquals("Home", result.get());
+        }
+        verify(driver).quit();
+    }
+
+    @Test
+    @DisplayName("Should quit driver and release session when scenario fails")
+    @ResourceLock(SharedResources.SUITE_METRICS)
+    void testFailingScenario() throws Exception {
+        WebDriver driver = mock(WebDriver.class);
+
+        try (ScenarioScheduler scheduler = new ScenarioScheduler(1, () -> driver)) {
+            Future<Object> result = scheduler.submit(d -> {
+                throw new IllegalStateException("boom");
+            });
+            ExecutionException e = assertThrows(ExecutionException.class, result::get);
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals(1, scheduler.availableSessions());
+        }
+        verify(driver).quit();
+    }
+
+    @Test
+    @DisplayName("Should never exceed the configured number of browser sessions")
+    @ResourceLock(SharedResources.SUITE_METRICS)
+    void testConcurrencyCap() throws Exception {
+        int maxSessions = 2;
+        AtomicInteger open = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try (ScenarioScheduler scheduler = new ScenarioScheduler(maxSessions, () -> mock(WebDriver.class))) {
+            for (int i = 0; i < 10; i++) {
+                results.add(scheduler.submit(driver -> {
+                    int current = open.incrementAndGet();
+                    peak.accumulateAndGet(current, Math::max);
+                    Thread.sleep(20);
+                    return open.decrementAndGet();
+                }));
+            }
+            for (Future<Integer> result : results) {
+                result.get();
+            }
+        }
+        assertTrue(peak.get() <= maxSessions, "Peak sessions was " + peak.get());
+    }
+}
@@ -0,0 +1,148 @@
+package com.selenium;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Splits test classes into duration-balanced shards.
+ *
+ * Uses the longest-processing-time rule: classes are taken slowest first and each one goes to
+ * the shard with the least total time so far, which keeps the slowest shard within 4/3 of the
+ * best possible split. Durations come from TestDurationStore; classes without history are
+ * assumed to take the average of the known classes.
+ *
+ * Usage: java com.selenium.ShardPlanner shardCount shardIndex [durationLog] [testRoot]
+ * prints the simple names of the classes in shard shardIndex (0-based) for surefire's -Dtest.
+ */
+public class ShardPlanner {
+
+    public static final double DEFAULT_CLASS_MILLIS = 1000;
+
+    /**
+     * One shard of the plan
+     */
+    public static class Shard {
+        private final int index;
+        private final List<String> testClasses = new ArrayList<>();
+        private double estimatedMillis;
+
+        Shard(int index) {
+            this.index = index;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public List<String> getTestClasses() {
+            return testClasses;
+        }
+
+        public double getEstimatedMillis() {
+            return estimatedMillis;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            usage();
+        }
+        int shardCount = Integer.parseInt(args[0]);
+        int shardIndex = Integer.parseInt(args[1]);
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            usage();
+        }
+        Path durationLog = Paths.get(args.length > 2 ? args[2] : "target/test-durations.log");
+        Path testRoot = Paths.get(args.length > 3 ? args[3] : "tests");
+
+        Map<String, Double> durations = classDurations(new TestDurationStore(durationLog).load());
+        List<Shard> shards = plan(durations, findTestClasses(testRoot), shardCount);
+        System.out.println(shards.get(shardIndex).getTestClasses().stream()
+                .map(name -> name.substring(name.lastIndexOf('.') + 1))
+                .collect(Collectors.joining(",")));
+    }
+
+    private static void usage() {
+        System.err.println("Usage: ShardPlanner shardCount shardIndex [durationLog] [testRoot]");
+        System.exit(2);
+    }
+
+    /**
+     * Plan the shards
+     * @param classDurations Known class durations in milliseconds
+     * @param testClasses The test classes to distribute
+     * @param shardCount The number of shards
+     * @return The shards, each listing its classes slowest first
+     */
+    public static List<Shard> plan(Map<String, Double> classDurations, Collection<String> testClasses, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount must be at least 1: " + shardCount);
+        }
+        double fallback = classDurations.values().stream().mapToDouble(Double::doubleValue).average()
+                .orElse(DEFAULT_CLASS_MILLIS);
+
+        List<String> ordered = new ArrayList<>(testClasses);
+        ordered.sort(Comparator.comparingDouble((String name) -> classDurations.getOrDefault(name, fallback))
+                .reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        List<Shard> shards = new ArrayList<>();
+        PriorityQueue<Shard> lightest = new PriorityQueue<>(Comparator.comparingDouble(Shard::getEstimatedMillis)
+                .thenComparingInt(Shard::getIndex));
+        for (int i = 0; i < shardCount; i++) {
+            Shard shard = new Shard(i);
+            shards.add(shard);
+            lightest.add(shard);
+        }
+        for (String testClass : ordered) {
+            Shard shard = lightest.poll();
+            shard.testClasses.add(testClass);
+            shard.estimatedMillis += classDurations.getOrDefault(testClass, fallback);
+            lightest.add(shard);
+        }
+        return shards;
+    }
+
+    /**
+     * Sum per-test durations ("Class#method") into per-class durations
+     * @param testDurations Durations keyed by test id
+     * @return Durations keyed by class name
+     */
+    public static Map<String, Double> classDurations(Map<String, Double> testDurations) {
+        Map<String, Double> classes = new TreeMap<>();
+        testDurations.forEach((testId, millis) -> {
+            int method = testId.indexOf('#');
+            classes.merge(method < 0 ? testId : testId.substring(0, method), millis, Double::sum);
+        });
+        return classes;
+    }
+
+    /**
+     * Find the test classes (sources named *Test.java) under a test source root
+     * @param testRoot The test source root
+     * @return Fully qualified test class names
+     * @throws IOException if the directory cannot be read
+     */
+    public static List<String> findTestClasses(Path testRoot) throws IOException {
+        try (Stream<Path> files = Files.walk(testRoot)) {
+            return files.filter(p -> p.getFileName().toString().endsWith("Test.java"))
+                    .map(p -> {
+                        String relative = testRoot.relativize(p).toString().replace('\\', '/');
+                        return relative.substring(0, relative.length() - ".java".length()).replace('/', '.');
+                    })
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JUnit test cases for ShardPlanner class
+ */
+@DisplayName("ShardPlanner Tests")
+public class ShardPlannerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should balance shards by duration")
+    void testBalancedPlan() {
+        Map<String, Double> durations = new HashMap<>();
+        durations.put("LoginPageTest", 70.0);
+        durations.put("BasePageTest", 50.0);
+        durations.put("TestUtilsTest", 40.0);
+        durations.put("WebDriverFactoryTest", 30.0);
+        durations.put("AsyncBasePageTest", 10.0);
+
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(durations, durations.keySet(), 2);
+
+        assertEquals(Arrays.asList("LoginPageTest", "WebDriverFactoryTest"), shards.get(0).getTestClasses());
+        assertEquals(Arrays.asList("BasePageTest", "TestUtilsTest", "AsyncBasePageTest"), shards.get(1).getTestClasses());
+        assertEquals(100.0, shards.get(0).getEstimatedMillis());
+        assertEquals(100.0, shards.get(1).getEstimatedMillis());
+    }
+
+    @Test
+    @DisplayName("Should assume the average duration for classes without history")
+    void testUnknownClasses() {
+        Map<String, Double> durations = Collections.singletonMap("BasePageTest", 300.0);
+
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(durations,
+                Arrays.asList("BasePageTest", "NewTest", "OtherNewTest"), 2);
+
+        assertEquals(Arrays.asList("BasePageTest", "OtherNewTest"), shards.get(0).getTestClasses());
+        assertEquals(Arrays.asList("NewTest"), shards.get(1).getTestClasses());
+        assertEquals(300.0, shards.get(1).getEstimatedMillis());
+        assertEquals(ShardPlanner.DEFAULT_CLASS_MILLIS,
+                ShardPlanner.plan(Collections.emptyMap(), Arrays.asList("A"), 1).get(0).getEstimatedMillis());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid shard count")
+    void testInvalidShardCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ShardPlanner.plan(Collections.emptyMap(), Collections.emptyList(), 0));
+    }
+
+    @Test
+    @DisplayName("Should sum method durations per class")
+    void testClassDurations() {
+        Map<String, Double> tests = new HashMap<>();
+        tests.put("com.selenium.BasePageTest#testA", 10.0);
+        tests.put("com.selenium.BasePageTest#testB", 15.0);
+        tests.put("com.selenium.TestUtilsTest", 5.0);
+
+        Map<String, Double> classes = ShardPlanner.classDurations(tests);
+
+        assertEquals(25.0, classes.get("com.selenium.BasePageTest"));
+        assertEquals(5.0, classes.get("com.selenium.TestUtilsTest"));
+    }
+
+    @Test
+    @DisplayName("Should find test classes under the test root")
+    void testFindTestClasses() throws IOException {
+        Files.createDirectories(tempDir.resolve("com/selenium"));
+        Files.write(tempDir.resolve("com/selenium/LoginPageTest.java"), new byte[0]);
+        Files.write(tempDir.resolve("com/selenium/WebDriverExtension.java"), new byte[0]);
+
+        assertEquals(Collections.singletonList("com.selenium.LoginPageTest"), ShardPlanner.findTestClasses(tempDir));
+    }
+}
@@ -0,0 +1,137 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import org.mockito.ArgumentMatchers;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JUnit test cases for SharedBrowser class
+ */
+@DisplayName("SharedBrowser Tests")
+public class SharedBrowserTest {
+
+    private List<WebDriver> launched;
+
+    @BeforeEach
+    void setUp() {
+        launched = new CopyOnWriteArrayList<>();
+    }
+
+    private WebDriver chromium() {
+        WebDriver driver = mock(WebDriver.class,
+                withSettings().extraInterfaces(HasCdp.class).defaultAnswer(RETURNS_DEEP_STUBS));
+        when(driver.getWindowHandle()).thenReturn("home");
+        when(((HasCdp) driver).executeCdpCommand(eq("Target.createBrowserContext"), ArgumentMatchers.any()))
+                .thenReturn(Collections.singletonMap("browserContextId", "ctx-1"));
+        when(((HasCdp) driver).executeCdpCommand(eq("Target.createTarget"), ArgumentMatchers.any()))
+                .thenReturn(Collections.singletonMap("targetId", "target-1"));
+        launched.add(driver);
+        return driver;
+    }
+
+    @Test
+    @DisplayName("Should open DevTools browser contexts on Chromium and reuse the browser")
+    void testChromiumContexts() {
+        try (SharedBrowser shared = new SharedBrowser(this::chromium)) {
+            SharedBrowser.IsolatedContext first = shared.openContext();
+            WebDriver driver = first.getDriver();
+            HasCdp cdp = (HasCdp) driver;
+
+            assertEquals("ctx-1", first.getBrowserContextId());
+            assertEquals("target-1", first.getWindowHandle());
+            verify(cdp).executeCdpCommand("Target.createTarget",
+                    Map.of("url", "about:blank", "browserContextId", "ctx-1"));
+            verify(driver.switchTo()).window("target-1");
+
+            first.close();
+            first.close();
+            verify(driver, times(1)).close();
+            verify(cdp).executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", "ctx-1"));
+            verify(driver.switchTo()).window("home");
+
+            assertSame(driver, shared.openContext().getDriver());
+            assertEquals(1, shared.getLaunchCount());
+        }
+        verify(launched.get(0)).quit();
+    }
+
+    @Test
+    @DisplayName("Should give each context its own browser on other browsers")
+    void testDedicatedBrowserFallback() {
+        try (SharedBrowser shared = new SharedBrowser(() -> {
+            WebDriver driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+            launched.add(driver);
+            return driver;
+        })) {
+            SharedBrowser.IsolatedContext first = shared.openContext();
+            assertNull(first.getBrowserContextId());
+            assertNull(first.getWindowHandle());
+            verify(first.getDriver(), never()).switchTo();
+
+            SharedBrowser.IsolatedContext second = shared.openContext();
+            assertNotSame(first.getDriver(), second.getDriver());
+            assertEquals(2, shared.getLaunchCount());
+
+            first.close();
+            verify(first.getDriver()).quit();
+            verify(second.getDriver(), never()).quit();
+        }
+        verify(launched.get(1)).quit();
+    }
+
+    @Test
+    @DisplayName("Should replace a browser that fails during cleanup")
+    void testBrokenBrowserReplaced() {
+        try (SharedBrowser shared = new SharedBrowser(this::chromium)) {
+            SharedBrowser.IsolatedContext context = shared.openContext();
+            doThrow(new NoSuchSessionException("gone")).when(context.getDriver()).close();
+
+            context.close();
+            verify(context.getDriver()).quit();
+
+            assertNotSame(context.getDriver(), shared.openContext().getDriver());
+            assertEquals(2, shared.getLaunchCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep one browser per thread")
+    void testBrowserPerThread() throws Exception {
+        SharedBrowser shared = new SharedBrowser(this::chromium);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> shared.openContext().close()).get();
+            shared.openContext().close();
+            executor.submit(() -> shared.openContext().close()).get();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        assertEquals(2, shared.getLaunchCount());
+
+        shared.close();
+        assertThrows(IllegalStateException.class, shared::openContext);
+        for (WebDriver driver : launched) {
+            verify(driver).quit();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject null launcher")
+    void testNullLauncher() {
+        assertThrows(IllegalArgumentException.class, () -> new SharedBrowser(null));
+    }
+}
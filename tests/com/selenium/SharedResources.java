@@ -0,0 +1,27 @@
+package com.selenium;
+
+import org.junit.jupiter.api.parallel.Resources;
+
+/**
+ * Resource keys for @ResourceLock when the suite runs with the parallel profile.
+ *
+ * Tests that read shared state take a READ lock; tests that change it take the default
+ * READ_WRITE lock. JUnit then runs readers concurrently and serializes every writer, while
+ * tests that touch none of these resources keep running fully in parallel.
+ */
+public final class SharedResources {
+
+    /**
+     * JVM system properties (e.g. scenario.threads, browser, headless)
+     */
+    public static final String SYSTEM_PROPERTIES = Resources.SYSTEM_PROPERTIES;
+
+    /**
+     * SuiteMetrics counters and session sets, for tests that assert exact changes to them
+     * or that change them (completed scenarios, wait timeouts, opened sessions)
+     */
+    public static final String SUITE_METRICS = "com.selenium.SuiteMetrics";
+
+    private SharedResources() {
+    }
+}
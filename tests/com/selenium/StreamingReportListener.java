@@ -0,0 +1,156 @@
+package com.selenium;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams one JSON line per finished test instead of building the report in memory.
+ *
+ * Each line holds the test's class, name, status, duration, failure and the BasePage
+ * operation timings collected through OperationTimings while it ran. Lines are written and
+ * flushed as tests finish, so the listener only holds the start times of running tests.
+ * The file comes from -Dtest.report.file (surefire sets one per forked JVM) and is truncated
+ * the first time a JVM writes to it. TestReportConverter turns the files into JUnit XML.
+ */
+public class StreamingReportListener implements TestExecutionListener {
+
+    private static final AtomicBoolean TRUNCATED = new AtomicBoolean();
+
+    private final Path reportFile;
+    private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+    private FileChannel channel;
+
+    public StreamingReportListener() {
+        this(Paths.get(System.getProperty("test.report.file", "target/test-report.jsonl")));
+    }
+
+    /**
+     * Create a listener
+     * @param reportFile The JSONL file to write
+     */
+    public StreamingReportListener(Path reportFile) {
+        this.reportFile = reportFile;
+    }
+
+    @Override
+    public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+        try {
+            if (reportFile.getParent() != null) {
+                Files.createDirectories(reportFile.getParent());
+            }
+            if (TRUNCATED.compareAndSet(false, true)) {
+                Files.deleteIfExists(reportFile);
+            }
+            channel = FileChannel.open(reportFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open test report " + reportFile, e);
+        }
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+            // Listener callbacks run on the thread that executes the test
+            OperationTimings.begin();
+        }
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+        if (testIdentifier.isTest()) {
+            write(record(testIdentifier, "SKIPPED", 0, reason, null, Map.of()));
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        Long start = startTimes.remove(testIdentifier.getUniqueId());
+        if (start == null) {
+            return;
+        }
+        Map<String, OperationTimings.OperationStats> operations = OperationTimings.end();
+        Throwable failure = testExecutionResult.getThrowable().orElse(null);
+        write(record(testIdentifier, testExecutionResult.getStatus().name(), (System.nanoTime() - start) / 1_000_000,
+                failure == null ? null : String.valueOf(failure.getMessage()),
+                failure == null ? null : failure.getClass().getName(), operations));
+    }
+
+    @Override
+    public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            // Every line was already written
+        }
+        channel = null;
+    }
+
+    private static Map<String, Object> record(TestIdentifier testIdentifier, String status, long durationMillis,
+                                              String failure, String failureType,
+                                              Map<String, OperationTimings.OperationStats> operations) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        Object source = testIdentifier.getSource().orElse(null);
+        if (source instanceof MethodSource) {
+            record.put("class", ((MethodSource) source).getClassName());
+            record.put("name", ((MethodSource) source).getMethodName());
+        } else {
+            record.put("class", "");
+            record.put("name", testIdentifier.getDisplayName());
+        }
+        record.put("displayName", testIdentifier.getDisplayName());
+        record.put("status", status);
+        record.put("durationMs", durationMillis);
+        if (failure != null) {
+            record.put("failure", failure);
+        }
+        if (failureType != null) {
+            record.put("failureType", failureType);
+        }
+        Map<String, Object> ops = new LinkedHashMap<>();
+        operations.forEach((name, stats) -> {
+            Map<String, Object> op = new LinkedHashMap<>();
+            op.put("count", stats.getCount());
+            op.put("totalMs", stats.getTotalNanos() / 1_000_000.0);
+            op.put("maxMs", stats.getMaxNanos() / 1_000_000.0);
+            ops.put(name, op);
+        });
+        record.put("ops", ops);
+        return record;
+    }
+
+    // One write per line so lines from concurrent tests never interleave
+    private synchronized void write(Map<String, Object> record) {
+        if (channel == null) {
+            return;
+        }
+        StringBuilder line = new StringBuilder();
+        new Json().newOutput(line).setPrettyPrint(false).write(record);
+        line.append('\n');
+        try {
+            channel.write(ByteBuffer.wrap(line.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write test report " + reportFile, e);
+        }
+    }
+}
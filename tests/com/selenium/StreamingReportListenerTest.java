@@ -0,0 +1,113 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * JUnit test cases for StreamingReportListener class
+ */
+@DisplayName("StreamingReportListener Tests")
+public class StreamingReportListenerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static volatile boolean running;
+
+    /**
+     * Sample tests run through a nested launcher; they abort when run on their own
+     */
+    static class SampleTests {
+        @Test
+        void passes() {
+            Assumptions.assumeTrue(running);
+            WebDriver driver = mock(WebDriver.class);
+            WebElement element = mock(WebElement.class);
+            when(driver.findElement(By.id("a"))).thenReturn(element);
+            when(element.isDisplayed()).thenReturn(true);
+            BasePage page = new BasePage(driver);
+            page.isElementDisplayed(By.id("a"));
+            page.isElementDisplayed(By.id("a"));
+        }
+
+        @Test
+        void fails() {
+            Assumptions.assumeTrue(running);
+            fail("boom");
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream one line per test with operation timings")
+    void testStreamsResults() throws Exception {
+        Path report = tempDir.resolve("report.jsonl");
+        Launcher launcher = LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .addTestExecutionListeners(new StreamingReportListener(report))
+                .build());
+        running = true;
+        try {
+            launcher.execute(LauncherDiscoveryRequestBuilder.request()
+                    .selectors(DiscoverySelectors.selectClass(SampleTests.class))
+                    .build());
+        } finally {
+            running = false;
+        }
+
+        Json json = new Json();
+        Map<String, Map<String, Object>> records = Files.readAllLines(report, StandardCharsets.UTF_8).stream()
+                .map(line -> json.<Map<String, Object>>toType(line, Json.MAP_TYPE))
+                .collect(Collectors.toMap(record -> (String) record.get("name"), record -> record));
+
+        Map<String, Object> passed = records.get("passes");
+        assertEquals(SampleTests.class.getName(), passed.get("class"));
+        assertEquals("SUCCESSFUL", passed.get("status"));
+        Map<?, ?> ops = (Map<?, ?>) ((Map<?, ?>) passed.get("ops")).get("isElementDisplayed");
+        assertEquals(2L, ((Number) ops.get("count")).longValue());
+
+        Map<String, Object> failed = records.get("fails");
+        assertEquals("FAILED", failed.get("status"));
+        assertEquals("boom", failed.get("failure"));
+        assertEquals("org.opentest4j.AssertionFailedError", failed.get("failureType"));
+        assertTrue(((Map<?, ?>) failed.get("ops")).isEmpty());
+        assertEquals(2, records.size());
+    }
+
+    @Test
+    @DisplayName("Should collect operation timings only between begin and end")
+    void testOperationTimings() {
+        OperationTimings.record("clickElement", 5);
+        OperationTimings.begin();
+        OperationTimings.record("clickElement", 3_000_000);
+        OperationTimings.record("clickElement", 1_000_000);
+        List<String> names = List.copyOf(OperationTimings.end().keySet());
+        assertEquals(List.of("clickElement"), names);
+        assertTrue(OperationTimings.end().isEmpty());
+
+        OperationTimings.begin();
+        OperationTimings.record("enterText", 7);
+        OperationTimings.OperationStats stats = OperationTimings.end().get("enterText");
+        assertEquals(1, stats.getCount());
+        assertEquals(7, stats.getTotalNanos());
+        assertEquals(7, stats.getMaxNanos());
+    }
+}
@@ -0,0 +1,191 @@
+package com.selenium;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Local history of test durations.
+ *
+ * The store is an append-only text log with one "testId TAB millis TAB weight" line per
+ * measurement, so concurrent surefire forks can record results by appending under a file
+ * lock. File locks are held per JVM, so threads of one fork (e.g. with -Pparallel) first
+ * take a JVM-wide monitor; the file lock then only guards against other forks. Loading
+ * folds the lines into a weighted average per test. Once the log holds more than
+ * compactionThreshold lines it is rewritten with a single line per test; the weight of
+ * compacted history is capped so recent runs keep moving the average.
+ *
+ * Test ids are "ClassName" or "ClassName#method"; ShardPlanner sums them per class.
+ */
+public class TestDurationStore {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 5000;
+    public static final int MAX_HISTORY_WEIGHT = 10;
+
+    // FileChannel.lock() throws OverlappingFileLockException for a second lock in the same JVM
+    private static final Object JVM_LOCK = new Object();
+
+    private final Path logFile;
+    private final int compactionThreshold;
+
+    public TestDurationStore(Path logFile) {
+        this(logFile, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Create a store
+     * @param logFile The log file, created on first write
+     * @param compactionThreshold The number of lines above which compactIfNeeded() rewrites the log
+     */
+    public TestDurationStore(Path logFile, int compactionThreshold) {
+        if (logFile == null) {
+            throw new IllegalArgumentException("logFile must not be null");
+        }
+        if (compactionThreshold < 1) {
+            throw new IllegalArgumentException("compactionThreshold must be at least 1: " + compactionThreshold);
+        }
+        this.logFile = logFile;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Append one measurement
+     * @param testId The test id
+     * @param millis The measured duration
+     * @throws IOException if the log cannot be written
+     */
+    public void record(String testId, long millis) throws IOException {
+        if (testId == null || testId.isEmpty() || testId.indexOf('\t') >= 0 || testId.indexOf('\n') >= 0) {
+            throw new IllegalArgumentException("Invalid test id: " + testId);
+        }
+        if (millis < 0) {
+            throw new IllegalArgumentException("millis must not be negative: " + millis);
+        }
+        if (logFile.getParent() != null) {
+            Files.createDirectories(logFile.getParent());
+        }
+        byte[] line = (testId + "\t" + millis + "\t1\n").getBytes(StandardCharsets.UTF_8);
+        synchronized (JVM_LOCK) {
+            try (FileChannel channel = FileChannel.open(logFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                 FileLock lock = channel.lock()) {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Load the average duration of every recorded test
+     * @return Average milliseconds keyed by test id
+     * @throws IOException if the log cannot be read
+     */
+    public Map<String, Double> load() throws IOException {
+        Map<String, Double> averages = new TreeMap<>();
+        fold().forEach((testId, entry) -> averages.put(testId, entry.average()));
+        return averages;
+    }
+
+    /**
+     * Rewrite the log with one line per test if it grew beyond the compaction threshold
+     * @return true if the log was compacted
+     * @throws IOException if the log cannot be rewritten
+     */
+    public boolean compactIfNeeded() throws IOException {
+        if (!Files.exists(logFile)) {
+            return false;
+        }
+        synchronized (JVM_LOCK) {
+            try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock lock = channel.lock()) {
+                List<String> lines = readLines(channel);
+                if (lines.size() <= compactionThreshold) {
+                    return false;
+                }
+                StringBuilder compacted = new StringBuilder();
+                for (Map.Entry<String, Entry> entry : fold(lines).entrySet()) {
+                    Entry folded = entry.getValue();
+                    long weight = Math.min(folded.weight, MAX_HISTORY_WEIGHT);
+                    compacted.append(entry.getKey()).append('\t').append(Math.round(folded.average()))
+                            .append('\t').append(weight).append('\n');
+                }
+                // Rewritten in place under the lock so forks appending concurrently keep their file
+                channel.truncate(0);
+                ByteBuffer buffer = ByteBuffer.wrap(compacted.toString().getBytes(StandardCharsets.UTF_8));
+                long position = 0;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                return true;
+            }
+        }
+    }
+
+    public Path getLogFile() {
+        return logFile;
+    }
+
+    private Map<String, Entry> fold() throws IOException {
+        if (!Files.exists(logFile)) {
+            return new TreeMap<>();
+        }
+        return fold(Files.readAllLines(logFile, StandardCharsets.UTF_8));
+    }
+
+    // Reads through the locked channel; a second channel would not see the lock on every platform
+    private static List<String> readLines(FileChannel channel) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long position = 0;
+        int read;
+        while ((read = channel.read(buffer, position)) > 0) {
+            content.write(buffer.array(), 0, read);
+            position += read;
+            buffer.clear();
+        }
+        String text = new String(content.toByteArray(), StandardCharsets.UTF_8);
+        return text.isEmpty() ? List.of() : Arrays.asList(text.split("\n"));
+    }
+
+    // Malformed lines (e.g. a write cut short by a killed fork) are skipped
+    private static Map<String, Entry> fold(List<String> lines) {
+        Map<String, Entry> folded = new TreeMap<>();
+        for (String line : lines) {
+            String[] columns = line.split("\t");
+            if (columns.length != 3) {
+                continue;
+            }
+            try {
+                long millis = Long.parseLong(columns[1]);
+                long weight = Long.parseLong(columns[2]);
+                Entry entry = folded.computeIfAbsent(columns[0], key -> new Entry());
+                entry.totalMillis += millis * weight;
+                entry.weight += weight;
+            } catch (NumberFormatException e) {
+                // Skip malformed line
+            }
+        }
+        return folded;
+    }
+
+    private static class Entry {
+        private long totalMillis;
+        private long weight;
+
+        double average() {
+            return weight == 0 ? 0 : (double) totalMillis / weight;
+        }
+    }
+}
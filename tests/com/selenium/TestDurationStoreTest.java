@@ -0,0 +1,112 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * JUnit test cases for TestDurationStore class
+ */
+@DisplayName("TestDurationStore Tests")
+public class TestDurationStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should average appended measurements per test")
+    void testRecordAndLoad() throws IOException {
+        TestDurationStore store = new TestDurationStore(tempDir.resolve("logs/durations.log"));
+        store.record("BasePageTest#testNavigateTo", 100);
+        store.record("BasePageTest#testNavigateTo", 300);
+        store.record("LoginPageTest#testInheritance", 50);
+
+        Map<String, Double> durations = store.load();
+
+        assertEquals(200.0, durations.get("BasePageTest#testNavigateTo"));
+        assertEquals(50.0, durations.get("LoginPageTest#testInheritance"));
+    }
+
+    @Test
+    @DisplayName("Should load nothing when no history exists")
+    void testEmptyStore() throws IOException {
+        TestDurationStore store = new TestDurationStore(tempDir.resolve("missing.log"));
+
+        assertTrue(store.load().isEmpty());
+        assertFalse(store.compactIfNeeded());
+    }
+
+    @Test
+    @DisplayName("Should compact the log once it exceeds the threshold")
+    void testCompaction() throws IOException {
+        TestDurationStore store = new TestDurationStore(tempDir.resolve("durations.log"), 4);
+        for (int i = 0; i < 20; i++) {
+            store.record("SlowTest", 1000);
+        }
+        store.record("FastTest", 10);
+        assertFalse(new TestDurationStore(store.getLogFile(), 100).compactIfNeeded());
+
+        assertTrue(store.compactIfNeeded());
+
+        assertEquals(2, Files.readAllLines(store.getLogFile()).size());
+        assertEquals(1000.0, store.load().get("SlowTest"));
+        assertTrue(Files.readAllLines(store.getLogFile()).contains("SlowTest\t1000\t" + TestDurationStore.MAX_HISTORY_WEIGHT));
+
+        store.record("SlowTest", 2100);
+        assertEquals(1100.0, store.load().get("SlowTest"));
+    }
+
+    @Test
+    @DisplayName("Should keep every write when threads record at once")
+    void testConcurrentRecord() throws Exception {
+        TestDurationStore store = new TestDurationStore(tempDir.resolve("durations.log"), 100_000);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                String testId = "ParallelTest#test" + t;
+                writers.add(pool.submit(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        store.record(testId, 10);
+                        if (i % 50 == 0) {
+                            store.compactIfNeeded();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(2000, Files.readAllLines(store.getLogFile()).size());
+        assertEquals(8, store.load().size());
+    }
+
+    @Test
+    @DisplayName("Should skip malformed lines and reject invalid input")
+    void testMalformedInput() throws IOException {
+        TestDurationStore store = new TestDurationStore(tempDir.resolve("durations.log"));
+        store.record("GoodTest", 20);
+        Files.write(store.getLogFile(), "BrokenTest\t12".getBytes(), StandardOpenOption.APPEND);
+
+        assertEquals(1, store.load().size());
+        assertThrows(IllegalArgumentException.class, () -> store.record("Bad\tId", 1));
+        assertThrows(IllegalArgumentException.class, () -> store.record("GoodTest", -1));
+        assertThrows(IllegalArgumentException.class, () -> new TestDurationStore(null));
+    }
+}
@@ -0,0 +1,616 @@
+package com.selenium;
+
+import com.sun.source.tree.ArrayTypeTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ImportTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ParameterizedTypeTree;
+import com.sun.source.tree.PrimitiveTypeTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.TypeParameterTree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.JavacTask;
+import javax.lang.model.element.Modifier;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Incremental JUnit test generator for the classes in src/main/java.
+ *
+ * Changed source files are parsed in a single javac pass and each public class gets a test
+ * stub per public method that builds the subject and calls the method with sample
+ * arguments. A generator cannot know what a method should do, so every stub is @Disabled
+ * until someone adds the assertions. Methods with side effects outside the JVM are left
+ * out: main(), static factories, lifecycle methods (create, launch, start, stop, quit,
+ * close, shutdown) and everything on classes whose constructors throw IOException, which
+ * open ports or files. Classes that work on a WebDriver get a mocked driver whose element
+ * lookups succeed at once. Generated tests start with a header line holding the hash of the
+ * source they were generated from and the hash of their own body:
+ * - sources whose hash is unchanged are not parsed or rewritten
+ * - test files without the header are hand-written and never touched
+ * - test files whose body no longer matches the header hash were hand-edited and are kept
+ *
+ * Usage: java com.selenium.TestGenerator [sourceRoot] [testRoot]
+ */
+public class TestGenerator {
+
+    public static final String HEADER_PREFIX = "// @generated by TestGenerator";
+
+    private static final String[] DRIVER_TYPES = {"By", "WebDriver", "WebElement"};
+
+    private static final String[] SIDE_EFFECT_PREFIXES =
+            {"create", "launch", "start", "stop", "quit", "close", "shutdown"};
+
+    private final Path sourceRoot;
+    private final Path testRoot;
+
+    /**
+     * Outcome counts of one generator run
+     */
+    public static class Result {
+        private final List<Path> generated = new ArrayList<>();
+        private final List<Path> unchanged = new ArrayList<>();
+        private final List<Path> skipped = new ArrayList<>();
+
+        public List<Path> getGenerated() {
+            return generated;
+        }
+
+        public List<Path> getUnchanged() {
+            return unchanged;
+        }
+
+        /**
+         * Test files left alone because they are hand-written or hand-edited
+         * @return The skipped test files
+         */
+        public List<Path> getSkipped() {
+            return skipped;
+        }
+
+        @Override
+        public String toString() {
+            return "Generated " + generated.size() + ", unchanged " + unchanged.size()
+                    + ", skipped " + skipped.size() + " hand-written or edited";
+        }
+    }
+
+    public TestGenerator(Path sourceRoot, Path testRoot) {
+        if (sourceRoot == null || testRoot == null) {
+            throw new IllegalArgumentException("sourceRoot and testRoot must not be null");
+        }
+        this.sourceRoot = sourceRoot;
+        this.testRoot = testRoot;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path sourceRoot = Paths.get(args.length > 0 ? args[0] : "src/main/java");
+        Path testRoot = Paths.get(args.length > 1 ? args[1] : "tests");
+        System.out.println(new TestGenerator(sourceRoot, testRoot).generate());
+    }
+
+    /**
+     * Generate tests for every source file whose content changed since the last run
+     * @return The outcome of the run
+     * @throws IOException if a source or test file cannot be read or written
+     */
+    public Result generate() throws IOException {
+        Result result = new Result();
+        Map<Path, String> pending = new HashMap<>();
+
+        for (Path source : listSources()) {
+            Path testFile = testFileFor(source);
+            String sourceHash = sha256Hex(Files.readAllBytes(source));
+            if (Files.exists(testFile)) {
+                String existing = new String(Files.readAllBytes(testFile), StandardCharsets.UTF_8);
+                Header header = Header.parse(existing);
+                if (header == null || !header.bodyHash.equals(sha256Hex(bodyOf(existing)))) {
+                    result.skipped.add(testFile);
+                    continue;
+                }
+                if (header.sourceHash.equals(sourceHash)) {
+                    result.unchanged.add(testFile);
+                    continue;
+                }
+            }
+            pending.put(source.toAbsolutePath().normalize(), sourceHash);
+        }
+
+        if (!pending.isEmpty()) {
+            for (CompilationUnitTree unit : parse(pending.keySet())) {
+                Path source = Paths.get(unit.getSourceFile().toUri()).toAbsolutePath().normalize();
+                String content = render(unit);
+                if (content == null) {
+                    continue;
+                }
+                Path testFile = testFileFor(source);
+                Files.createDirectories(testFile.getParent());
+                String header = HEADER_PREFIX + " source-sha256=" + pending.get(source)
+                        + " body-sha256=" + sha256Hex(content.getBytes(StandardCharsets.UTF_8)) + "\n";
+                Files.write(testFile, (header + content).getBytes(StandardCharsets.UTF_8));
+                result.generated.add(testFile);
+            }
+        }
+        return result;
+    }
+
+    private List<Path> listSources() throws IOException {
+        try (Stream<Path> files = Files.walk(sourceRoot)) {
+            return files.filter(p -> p.toString().endsWith(".java"))
+                    .filter(p -> !p.getFileName().toString().equals("package-info.java"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private Path testFileFor(Path source) {
+        Path relative = sourceRoot.toAbsolutePath().normalize().relativize(source.toAbsolutePath().normalize());
+        String fileName = relative.getFileName().toString();
+        String testName = fileName.substring(0, fileName.length() - ".java".length()) + "Test.java";
+        return relative.getParent() == null ? testRoot.resolve(testName)
+                : testRoot.resolve(relative.getParent()).resolve(testName);
+    }
+
+    private static List<CompilationUnitTree> parse(Set<Path> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("TestGenerator needs a JDK, not a JRE");
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> files = fileManager.getJavaFileObjectsFromFiles(
+                    sources.stream().map(Path::toFile).collect(Collectors.toList()));
+            JavacTask task = (JavacTask) compiler.getTask(null, fileManager, null, null, null, files);
+            List<CompilationUnitTree> units = new ArrayList<>();
+            for (CompilationUnitTree unit : task.parse()) {
+                units.add(unit);
+            }
+            return units;
+        }
+    }
+
+    private static String render(CompilationUnitTree unit) {
+        ClassTree type = null;
+        for (Tree declaration : unit.getTypeDecls()) {
+            if (declaration instanceof ClassTree
+                    && ((ClassTree) declaration).getModifiers().getFlags().contains(Modifier.PUBLIC)) {
+                type = (ClassTree) declaration;
+                break;
+            }
+        }
+        if (type == null || type.getKind() == Tree.Kind.INTERFACE || type.getKind() == Tree.Kind.ANNOTATION_TYPE) {
+            return null;
+        }
+
+        String className = type.getSimpleName().toString();
+        Set<String> classTypeParameters = names(type.getTypeParameters());
+        Map<String, Tree.Kind> nestedTypes = new HashMap<>();
+        List<MethodTree> constructors = new ArrayList<>();
+        List<MethodTree> methods = new ArrayList<>();
+        boolean hasConstructor = false;
+        for (Tree member : type.getMembers()) {
+            if (member instanceof ClassTree) {
+                nestedTypes.put(((ClassTree) member).getSimpleName().toString(), member.getKind());
+            } else if (member instanceof MethodTree) {
+                MethodTree method = (MethodTree) member;
+                boolean constructor = method.getReturnType() == null;
+                hasConstructor |= constructor;
+                if (method.getModifiers().getFlags().contains(Modifier.PUBLIC)) {
+                    (constructor ? constructors : methods).add(method);
+                }
+            }
+        }
+
+        Map<String, String> imports = new HashMap<>();
+        List<String> wildcardImports = new ArrayList<>();
+        for (ImportTree importTree : unit.getImports()) {
+            String imported = importTree.getQualifiedIdentifier().toString();
+            if (importTree.isStatic()) {
+                continue;
+            }
+            if (imported.endsWith(".*")) {
+                wildcardImports.add(imported);
+            } else {
+                imports.put(imported.substring(imported.lastIndexOf('.') + 1), imported);
+            }
+        }
+        String packageName = unit.getPackageName() == null ? "" : unit.getPackageName() + ".";
+        Signatures signatures = new Signatures(classTypeParameters, nestedTypes, className, imports,
+                wildcardImports, packageName);
+        // The subject is built with the public constructor that takes a WebDriver, else the shortest one
+        MethodTree subjectConstructor = null;
+        for (MethodTree constructor : constructors) {
+            if (subjectConstructor == null || takesDriver(constructor, signatures) && !takesDriver(subjectConstructor, signatures)
+                    || takesDriver(constructor, signatures) == takesDriver(subjectConstructor, signatures)
+                    && constructor.getParameters().size() < subjectConstructor.getParameters().size()) {
+                subjectConstructor = constructor;
+            }
+        }
+        boolean opensResources = constructors.stream().anyMatch(TestGenerator::throwsIOException);
+        boolean instantiable = type.getKind() == Tree.Kind.CLASS && !opensResources
+                && !type.getModifiers().getFlags().contains(Modifier.ABSTRACT)
+                && (subjectConstructor != null || !hasConstructor);
+
+        List<String> tests = new ArrayList<>();
+        Map<String, Integer> usedNames = new HashMap<>();
+        for (MethodTree method : methods) {
+            boolean isStatic = method.getModifiers().getFlags().contains(Modifier.STATIC);
+            if (!isStatic && !instantiable || hasSideEffects(method, isStatic, className, signatures)) {
+                continue;
+            }
+            String name = method.getName().toString();
+            String testName = "test" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            int count = usedNames.merge(testName, 1, Integer::sum);
+            if (count > 1) {
+                testName += count;
+            }
+            String signature = name + "(" + method.getParameters().stream()
+                    .map(p -> signatures.erasure(p.getType()))
+                    .map(t -> t.substring(t.lastIndexOf('.') + 1)).collect(Collectors.joining(", ")) + ")";
+            StringBuilder body = new StringBuilder();
+            if (!isStatic) {
+                String newSubject = subjectConstructor == null ? "new " + className + "()"
+                        : "new " + className + "(" + arguments(subjectConstructor, signatures) + ")";
+                body.append("        ").append(className).append(" subject = ").append(newSubject).append(";\n\n");
+            }
+            body.append("        ").append(isStatic ? className : "subject").append('.').append(name)
+                    .append("(").append(arguments(method, signatures)).append(");\n\n");
+            body.append("        // TODO: assert what ").append(signature).append(" should have done\n");
+            tests.add(test(testName, "Should run " + signature, body.toString()));
+        }
+        if (tests.isEmpty()) {
+            return null;
+        }
+        boolean driver = signatures.usesDriver;
+        if (driver) {
+            signatures.require("java.util.Collections");
+        }
+        boolean mockito = driver || signatures.usesMocks;
+
+        StringBuilder out = new StringBuilder();
+        if (unit.getPackageName() != null) {
+            out.append("package ").append(unit.getPackageName()).append(";\n\n");
+        }
+        out.append("import org.junit.jupiter.api.Test;\n");
+        if (driver) {
+            out.append("import org.junit.jupiter.api.BeforeEach;\n");
+            out.append("import org.junit.jupiter.api.AfterEach;\n");
+        }
+        out.append("import org.junit.jupiter.api.Disabled;\n");
+        out.append("import org.junit.jupiter.api.DisplayName;\n");
+        if (driver) {
+            out.append("import org.mockito.Mock;\n");
+            out.append("import org.mockito.MockitoAnnotations;\n");
+        }
+        if (mockito) {
+            out.append("import static org.mockito.Mockito.*;\n");
+        }
+        Set<String> written = new HashSet<>();
+        if (driver) {
+            for (String driverType : DRIVER_TYPES) {
+                written.add("org.openqa.selenium." + driverType);
+                out.append("import org.openqa.selenium.").append(driverType).append(";\n");
+            }
+        }
+        for (String imported : signatures.required) {
+            if (written.add(imported)) {
+                out.append("import ").append(imported).append(";\n");
+            }
+        }
+        out.append("\n/**\n");
+        out.append(" * JUnit test stubs for ").append(className).append(" class\n");
+        out.append(" * Generated from its public signatures; add assertions, enable the tests and remove the\n");
+        out.append(" * @generated line to take ownership\n");
+        out.append(" */\n");
+        out.append("@DisplayName(\"").append(className).append(" Tests\")\n");
+        out.append("public class ").append(className).append("Test {\n");
+        if (driver) {
+            out.append("\n    @Mock\n    private WebDriver mockDriver;\n");
+            out.append("\n    @Mock\n    private WebElement mockElement;\n");
+            out.append("\n    private AutoCloseable closeable;\n");
+            out.append("\n    @BeforeEach\n    void setUp() {\n");
+            out.append("        closeable = MockitoAnnotations.openMocks(this);\n");
+            out.append("        // Lookups find a visible, enabled element at once, so waits never poll\n");
+            out.append("        when(mockDriver.findElement(any(By.class))).thenReturn(mockElement);\n");
+            out.append("        when(mockDriver.findElements(any(By.class))).thenReturn(Collections.singletonList(mockElement));\n");
+            out.append("        when(mockElement.isDisplayed()).thenReturn(true);\n");
+            out.append("        when(mockElement.isEnabled()).thenReturn(true);\n");
+            out.append("    }\n");
+            out.append("\n    @AfterEach\n    void tearDown() throws Exception {\n");
+            out.append("        closeable.close();\n");
+            out.append("    }\n");
+        }
+        for (String test : tests) {
+            out.append(test);
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static String test(String name, String displayName, String body) {
+        return "\n    @Test\n    @Disabled(\"Generated stub: add assertions\")\n    @DisplayName(\"" + displayName
+                + "\")\n    void " + name + "() throws Exception {\n" + body + "    }\n";
+    }
+
+    // main() may exit the JVM; factories and lifecycle methods start browsers, servers or threads
+    private static boolean hasSideEffects(MethodTree method, boolean isStatic, String className,
+                                          Signatures signatures) {
+        String name = method.getName().toString();
+        if (isStatic && (name.equals("main") || name.equals("shared") || name.startsWith("new")
+                || name.startsWith("getInstance"))) {
+            return true;
+        }
+        if (isStatic && method.getReturnType() != null) {
+            String returned = signatures.erasure(method.getReturnType());
+            if (returned.equals(className) || returned.equals("WebDriver")) {
+                return true;
+            }
+        }
+        for (String prefix : SIDE_EFFECT_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean throwsIOException(MethodTree method) {
+        return method.getThrows().stream().map(Tree::toString)
+                .anyMatch(thrown -> thrown.equals("IOException") || thrown.equals("java.io.IOException"));
+    }
+
+    private static boolean takesDriver(MethodTree method, Signatures signatures) {
+        return method.getParameters().stream().anyMatch(p -> "WebDriver".equals(signatures.erasure(p.getType())));
+    }
+
+    private static String arguments(MethodTree method, Signatures signatures) {
+        return method.getParameters().stream()
+                .map(p -> signatures.sample(p.getType()))
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Erases declared types and picks sample arguments for them
+     */
+    private static class Signatures {
+        private final Set<String> typeParameters;
+        private final Map<String, Tree.Kind> nestedTypes;
+        private final String className;
+        private final Map<String, String> imports;
+        private final List<String> wildcardImports;
+        private final String packageName;
+        // Imports the generated test needs, besides JUnit, Mockito and the driver types
+        private final Set<String> required = new TreeSet<>();
+        private boolean usesDriver;
+        private boolean usesMocks;
+
+        Signatures(Set<String> typeParameters, Map<String, Tree.Kind> nestedTypes, String className,
+                   Map<String, String> imports, List<String> wildcardImports, String packageName) {
+            this.typeParameters = typeParameters;
+            this.nestedTypes = nestedTypes;
+            this.className = className;
+            this.imports = imports;
+            this.wildcardImports = wildcardImports;
+            this.packageName = packageName;
+        }
+
+        void require(String qualifiedName) {
+            required.add(qualifiedName);
+        }
+
+        // Imports the source imported a referenced type with; same-package, java.lang and
+        // fully qualified names need none
+        private void requireType(String erased) {
+            if (!erased.isEmpty() && Character.isLowerCase(erased.charAt(0))) {
+                return;
+            }
+            int dot = erased.indexOf('.');
+            String outer = dot < 0 ? erased : erased.substring(0, dot);
+            if (imports.containsKey(outer)) {
+                require(imports.get(outer));
+            } else if (!outer.equals(className) && !isCompiled(packageName + outer) && !isCompiled("java.lang." + outer)) {
+                required.addAll(wildcardImports.stream().map(w -> w.substring(0, w.length() - 2) + "." + outer)
+                        .filter(TestGenerator.Signatures::isCompiled).collect(Collectors.toList()));
+            }
+        }
+
+        private static boolean isCompiled(String qualifiedName) {
+            try {
+                Class.forName(qualifiedName, false, TestGenerator.class.getClassLoader());
+                return true;
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+        }
+
+        String erasure(Tree type) {
+            if (type instanceof PrimitiveTypeTree) {
+                return type.toString();
+            }
+            if (type instanceof ArrayTypeTree) {
+                return erasure(((ArrayTypeTree) type).getType()) + "[]";
+            }
+            if (type instanceof ParameterizedTypeTree) {
+                return erasure(((ParameterizedTypeTree) type).getType());
+            }
+            String name = type.toString();
+            if (typeParameters.contains(name)) {
+                return "Object";
+            }
+            if (nestedTypes.containsKey(name)) {
+                return className + "." + name;
+            }
+            return name;
+        }
+
+        // A value the method can run with: real values where Mockito cannot mock, mocks otherwise
+        String sample(Tree type) {
+            return sample(erasure(type));
+        }
+
+        private String sample(String erased) {
+            if (erased.endsWith("[]")) {
+                String component = erased.substring(0, erased.length() - 2);
+                return "new " + erased + " {" + sample(component) + "}";
+            }
+            String simple = erased.substring(erased.lastIndexOf('.') + 1);
+            switch (simple) {
+                case "WebDriver":
+                    usesDriver = true;
+                    return "mockDriver";
+                case "WebElement":
+                    usesDriver = true;
+                    return "mockElement";
+                case "By":
+                    usesDriver = true;
+                    return "By.id(\"sample\")";
+                case "boolean":
+                case "Boolean":
+                    return "false";
+                case "char":
+                case "Character":
+                    return "'a'";
+                case "byte":
+                case "Byte":
+                    return "(byte) 1";
+                case "short":
+                case "Short":
+                    return "(short) 1";
+                case "int":
+                case "Integer":
+                    return "1";
+                case "long":
+                case "Long":
+                    return "1L";
+                case "float":
+                case "Float":
+                    return "1.0f";
+                case "double":
+                case "Double":
+                    return "1.0";
+                case "String":
+                case "CharSequence":
+                case "Object":
+                    return "\"sample\"";
+                case "List":
+                case "Collection":
+                case "Iterable":
+                    require("java.util.Collections");
+                    return "Collections.emptyList()";
+                case "Set":
+                    require("java.util.Collections");
+                    return "Collections.emptySet()";
+                case "Map":
+                    require("java.util.Collections");
+                    return "Collections.emptyMap()";
+                case "Duration":
+                    require("java.time.Duration");
+                    return "Duration.ofMillis(1)";
+                case "Path":
+                    require("java.nio.file.Files");
+                    return "Files.createTempDirectory(\"generated\")";
+                default:
+                    requireType(erased);
+                    if (erased.startsWith(className + ".") && nestedTypes.get(simple) == Tree.Kind.ENUM
+                            || isCompiledEnum(erased)) {
+                        return erased + ".values()[0]";
+                    }
+                    usesMocks = true;
+                    return "mock(" + erased + ".class)";
+            }
+        }
+
+        // Enums declared in other files can only be recognized from the compiled classes
+        private boolean isCompiledEnum(String erased) {
+            int dot = erased.indexOf('.');
+            String outer = dot < 0 ? erased : erased.substring(0, dot);
+            String nested = dot < 0 ? "" : erased.substring(dot).replace('.', '$');
+            for (String candidate : new String[] {imports.get(outer), packageName + outer, "java.lang." + outer}) {
+                if (candidate == null) {
+                    continue;
+                }
+                try {
+                    return Class.forName(candidate + nested, false, TestGenerator.class.getClassLoader()).isEnum();
+                } catch (ClassNotFoundException | LinkageError e) {
+                    // Try the next candidate
+                }
+            }
+            return false;
+        }
+    }
+
+    private static Set<String> names(List<? extends TypeParameterTree> typeParameters) {
+        if (typeParameters.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return typeParameters.stream().map(t -> t.getName().toString()).collect(Collectors.toSet());
+    }
+
+    private static byte[] bodyOf(String content) {
+        int newline = content.indexOf('\n');
+        return content.substring(newline + 1).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Hashes recorded in the first line of a generated test
+     */
+    private static class Header {
+        private final String sourceHash;
+        private final String bodyHash;
+
+        private Header(String sourceHash, String bodyHash) {
+            this.sourceHash = sourceHash;
+            this.bodyHash = bodyHash;
+        }
+
+        static Header parse(String content) {
+            if (!content.startsWith(HEADER_PREFIX)) {
+                return null;
+            }
+            int newline = content.indexOf('\n');
+            String line = newline < 0 ? content : content.substring(0, newline);
+            String sourceHash = null;
+            String bodyHash = null;
+            for (String token : line.split(" ")) {
+                if (token.startsWith("source-sha256=")) {
+                    sourceHash = token.substring("source-sha256=".length());
+                } else if (token.startsWith("body-sha256=")) {
+                    bodyHash = token.substring("body-sha256=".length());
+                }
+            }
+            return sourceHash == null || bodyHash == null ? null : new Header(sourceHash, bodyHash);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JUnit test cases for TestGenerator class
+ */
+@DisplayName("TestGenerator Tests")
+public class TestGeneratorTest {
+
+    private static final String SOURCE = "package demo;\n\n"
+            + "import java.util.List;\n\n"
+            + "public class Sample<T> {\n"
+            + "    public enum Mode { FAST, SLOW }\n"
+            + "    public Sample(String name) { }\n"
+            + "    public static List<String> split(String text, Mode mode) { return null; }\n"
+            + "    public T first(T[] values) { return values[0]; }\n"
+            + "    public void log(String... parts) { }\n"
+            + "    void hidden() { }\n"
+            + "}\n";
+
+    @TempDir
+    Path tempDir;
+
+    private Path sourceRoot;
+    private Path testRoot;
+    private Path sourceFile;
+    private Path testFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sourceRoot = tempDir.resolve("src");
+        testRoot = tempDir.resolve("tests");
+        sourceFile = sourceRoot.resolve("demo/Sample.java");
+        testFile = testRoot.resolve("demo/SampleTest.java");
+        Files.createDirectories(sourceFile.getParent());
+        write(sourceFile, SOURCE);
+    }
+
+    @Test
+    @DisplayName("Should reject null roots")
+    void testNullRoots() {
+        assertThrows(IllegalArgumentException.class, () -> new TestGenerator(null, testRoot));
+        assertThrows(IllegalArgumentException.class, () -> new TestGenerator(sourceRoot, null));
+    }
+
+    @Test
+    @DisplayName("Should generate disabled stubs for every public method")
+    void testGenerateStubs() throws IOException {
+        TestGenerator.Result result = new TestGenerator(sourceRoot, testRoot).generate();
+
+        assertEquals(1, result.getGenerated().size());
+        String content = read(testFile);
+        assertTrue(content.startsWith(TestGenerator.HEADER_PREFIX));
+        assertTrue(content.contains("package demo;"));
+        assertTrue(content.contains("Sample.split(\"sample\", Sample.Mode.values()[0]);"));
+        assertTrue(content.contains("Sample subject = new Sample(\"sample\");"));
+        assertTrue(content.contains("subject.first(new Object[] {\"sample\"});"));
+        assertTrue(content.contains("subject.log(new String[] {\"sample\"});"));
+        assertTrue(content.contains("// TODO: assert what log(String[]) should have done"));
+        assertEquals(3, content.split("@Disabled\\(\"Generated stub: add assertions\"\\)", -1).length - 1);
+        assertFalse(content.contains("hidden"));
+        assertFalse(content.contains("assertDoesNotThrow"));
+        assertFalse(content.contains("mockDriver"));
+        // Only the imports the stubs use
+        assertFalse(content.contains("import java.util.List;"));
+        assertFalse(content.contains("org.mockito"));
+        assertFalse(content.contains("Assertions"));
+    }
+
+    @Test
+    @DisplayName("Should leave out methods with side effects")
+    void testSkipsSideEffects() throws IOException {
+        write(sourceFile, "package demo;\n\n"
+                + "import java.io.IOException;\n"
+                + "import java.time.Duration;\n\n"
+                + "public class Sample {\n"
+                + "    public static Sample shared() { return null; }\n"
+                + "    public static Sample of(Duration timeout) { return null; }\n"
+                + "    public static String format(Duration timeout) { return null; }\n"
+                + "    public void start() { }\n"
+                + "    public void close() { }\n"
+                + "    public void reset() { }\n"
+                + "    public static void main(String[] args) { System.exit(1); }\n"
+                + "}\n");
+        new TestGenerator(sourceRoot, testRoot).generate();
+
+        String content = read(testFile);
+        assertTrue(content.contains("Sample.format(Duration.ofMillis(1));"));
+        assertTrue(content.contains("subject.reset();"));
+        assertTrue(content.contains("import java.time.Duration;"));
+        assertFalse(content.contains("import java.io.IOException;"));
+        for (String skipped : new String[] {"shared(", "of(", "start(", "close(", "main("}) {
+            assertFalse(content.contains(skipped), skipped);
+        }
+
+        write(sourceFile, "package demo;\n\n"
+                + "import java.io.IOException;\n\n"
+                + "public class Sample {\n"
+                + "    public Sample(int port) throws IOException { }\n"
+                + "    public int getPort() { return 0; }\n"
+                + "}\n");
+        new TestGenerator(sourceRoot, testRoot).generate();
+        assertFalse(Files.readString(testFile).contains("getPort"));
+    }
+
+    @Test
+    @DisplayName("Should run page objects against a mocked WebDriver")
+    void testGenerateWithMockedDriver() throws IOException {
+        write(sourceFile, "package demo;\n\n"
+                + "import org.openqa.selenium.By;\n"
+                + "import org.openqa.selenium.WebDriver;\n\n"
+                + "public class Sample {\n"
+                + "    public Sample() { }\n"
+                + "    public Sample(WebDriver driver) { }\n"
+                + "    public void click(By locator) { }\n"
+                + "    public static WebDriver createDriver() { return null; }\n"
+                + "}\n");
+        new TestGenerator(sourceRoot, testRoot).generate();
+
+        String content = read(testFile);
+        assertTrue(content.contains("@Mock\n    private WebDriver mockDriver;"));
+        assertTrue(content.contains("when(mockDriver.findElement(any(By.class))).thenReturn(mockElement);"));
+        assertTrue(content.contains("Sample subject = new Sample(mockDriver);"));
+        assertTrue(content.contains("subject.click(By.id(\"sample\"));"));
+        assertEquals(1, content.split("import org.openqa.selenium.By;", -1).length - 1);
+        assertFalse(content.contains("createDriver"));
+    }
+
+    @Test
+    @DisplayName("Should only regenerate tests whose source changed")
+    void testIncrementalRegeneration() throws IOException {
+        TestGenerator generator = new TestGenerator(sourceRoot, testRoot);
+        generator.generate();
+
+        TestGenerator.Result unchanged = generator.generate();
+        assertEquals(0, unchanged.getGenerated().size());
+        assertEquals(1, unchanged.getUnchanged().size());
+
+        write(sourceFile, SOURCE.replace("void hidden() { }", "public void shown() { }"));
+        TestGenerator.Result changed = generator.generate();
+        assertEquals(1, changed.getGenerated().size());
+        assertTrue(read(testFile).contains("subject.shown()"));
+    }
+
+    @Test
+    @DisplayName("Should never overwrite hand-written or hand-edited tests")
+    void testKeepsHandEditedTests() throws IOException {
+        TestGenerator generator = new TestGenerator(sourceRoot, testRoot);
+        generator.generate();
+        String edited = read(testFile).replace("}\n}\n", "}\n    // extra assertions\n}\n");
+        write(testFile, edited);
+        write(sourceFile, SOURCE.replace("void hidden() { }", "public void shown() { }"));
+
+        TestGenerator.Result result = generator.generate();
+        assertEquals(1, result.getSkipped().size());
+        assertEquals(edited, read(testFile));
+
+        write(testFile, "package demo;\n\nclass SampleTest { }\n");
+        assertEquals(1, generator.generate().getSkipped().size());
+        assertEquals("package demo;\n\nclass SampleTest { }\n", read(testFile));
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,353 @@
+package com.selenium;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test impact analysis: runs only the tests a change can affect.
+ *
+ * index() reads the constant pool of every compiled main and test class and follows class
+ * references transitively, recording for each test class the main and test-support classes
+ * it can reach. The mapping is persisted as a small text index. select() maps the files of a
+ * git diff back to classes and returns the tests that depend on any of them, ready to pass to
+ * surefire's -Dtest. Changes to anything that is not a Java source under a known source root
+ * (pom.xml, resources, scripts), and to test sources no test references, select every test.
+ *
+ * Granularity is the class: a change to one method of BasePage selects every test that
+ * reaches BasePage.
+ *
+ * Usage:
+ *   java com.selenium.TestImpactAnalyzer index [mainClasses] [testClasses] [indexFile]
+ *   java com.selenium.TestImpactAnalyzer select baseRef [indexFile]
+ */
+public class TestImpactAnalyzer {
+
+    public static final String ALL_TESTS = "**/*Test";
+
+    private static final String INDEX_HEADER = "# test-impact-index v1";
+    private static final Pattern DESCRIPTOR_TYPE = Pattern.compile("L([\\w/$]+)[;<]");
+
+    private final List<String> sourceRoots;
+
+    /**
+     * Create an analyzer for the default source roots, src/main/java and tests
+     */
+    public TestImpactAnalyzer() {
+        this(Arrays.asList("src/main/java", "tests"));
+    }
+
+    /**
+     * Create an analyzer
+     * @param sourceRoots Source directories relative to the repository root
+     */
+    public TestImpactAnalyzer(List<String> sourceRoots) {
+        if (sourceRoots == null || sourceRoots.isEmpty()) {
+            throw new IllegalArgumentException("sourceRoots must not be empty");
+        }
+        this.sourceRoots = sourceRoots.stream()
+                .map(root -> root.endsWith("/") ? root : root + "/")
+                .collect(Collectors.toList());
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        TestImpactAnalyzer analyzer = new TestImpactAnalyzer();
+        if (args.length >= 1 && args[0].equals("index")) {
+            Path indexFile = Paths.get(args.length > 3 ? args[3] : "target/test-impact.idx");
+            Map<String, Set<String>> index = analyzer.index(
+                    Paths.get(args.length > 1 ? args[1] : "target/classes"),
+                    Paths.get(args.length > 2 ? args[2] : "target/test-classes"));
+            writeIndex(index, indexFile);
+            System.err.println("Indexed " + index.size() + " test classes into " + indexFile);
+        } else if (args.length >= 2 && args[0].equals("select")) {
+            Path indexFile = Paths.get(args.length > 2 ? args[2] : "target/test-impact.idx");
+            Set<String> selected = analyzer.select(readIndex(indexFile), changedFiles(args[1]));
+            System.out.println(selected == null ? ALL_TESTS : String.join(",", selected));
+        } else {
+            System.err.println("Usage: TestImpactAnalyzer index [mainClasses] [testClasses] [indexFile]");
+            System.err.println("       TestImpactAnalyzer select baseRef [indexFile]");
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Build the test-to-dependency mapping from compiled classes
+     * @param mainClasses The main class output directory
+     * @param testClasses The test class output directory
+     * @return Dependencies (top-level class names) keyed by test class name
+     * @throws IOException if a class file cannot be read
+     */
+    public Map<String, Set<String>> index(Path mainClasses, Path testClasses) throws IOException {
+        Map<String, Set<String>> references = new HashMap<>();
+        readReferences(mainClasses, references);
+        Set<String> testSide = readReferences(testClasses, references);
+
+        Map<String, Set<String>> index = new TreeMap<>();
+        for (String className : testSide) {
+            String simpleName = className.substring(className.lastIndexOf('.') + 1);
+            if (!simpleName.endsWith("Test")) {
+                continue;
+            }
+            Set<String> reachable = new TreeSet<>();
+            Deque<String> queue = new ArrayDeque<>();
+            queue.add(className);
+            while (!queue.isEmpty()) {
+                String current = queue.poll();
+                for (String dependency : references.getOrDefault(current, Set.of())) {
+                    if (reachable.add(dependency)) {
+                        queue.add(dependency);
+                    }
+                }
+            }
+            reachable.remove(className);
+            index.put(className, reachable);
+        }
+        return index;
+    }
+
+    /**
+     * Select the tests affected by a set of changed files
+     * @param index The test-to-dependency mapping
+     * @param changedFiles Paths relative to the repository root
+     * @return Simple names of the affected test classes, or null if every test must run
+     */
+    public Set<String> select(Map<String, Set<String>> index, List<String> changedFiles) {
+        Set<String> selected = new TreeSet<>();
+        for (String file : changedFiles) {
+            String className = classNameOf(file);
+            if (className == null) {
+                return null;
+            }
+            String simpleName = className.substring(className.lastIndexOf('.') + 1);
+            boolean testSource = file.startsWith(testRoot());
+            if (index.containsKey(className) || (testSource && simpleName.endsWith("Test"))) {
+                selected.add(simpleName);
+                continue;
+            }
+            boolean referenced = false;
+            for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+                if (entry.getValue().contains(className)) {
+                    String test = entry.getKey();
+                    selected.add(test.substring(test.lastIndexOf('.') + 1));
+                    referenced = true;
+                }
+            }
+            // Test support no test links to directly (e.g. input to an annotation processor)
+            if (testSource && !referenced) {
+                return null;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Persist an index
+     * @param index The test-to-dependency mapping
+     * @param indexFile The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeIndex(Map<String, Set<String>> index, Path indexFile) throws IOException {
+        if (indexFile.getParent() != null) {
+            Files.createDirectories(indexFile.getParent());
+        }
+        try (Writer out = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8)) {
+            out.write(INDEX_HEADER + "\n");
+            for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+                out.write(entry.getKey() + "\t" + String.join(",", entry.getValue()) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Load a persisted index
+     * @param indexFile The file to read
+     * @return The test-to-dependency mapping
+     * @throws IOException if the file is missing or not an index
+     */
+    public static Map<String, Set<String>> readIndex(Path indexFile) throws IOException {
+        List<String> lines = Files.readAllLines(indexFile, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(INDEX_HEADER)) {
+            throw new IOException("Not a test impact index: " + indexFile);
+        }
+        Map<String, Set<String>> index = new TreeMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] columns = line.split("\t", -1);
+            Set<String> dependencies = new TreeSet<>();
+            if (columns.length > 1 && !columns[1].isEmpty()) {
+                dependencies.addAll(Arrays.asList(columns[1].split(",")));
+            }
+            index.put(columns[0], dependencies);
+        }
+        return index;
+    }
+
+    // Files changed since baseRef, including uncommitted and untracked files
+    private static List<String> changedFiles(String baseRef) throws IOException, InterruptedException {
+        List<String> files = new ArrayList<>(git("diff", "--name-only", baseRef));
+        files.addAll(git("ls-files", "--others", "--exclude-standard"));
+        return files;
+    }
+
+    private static List<String> git(String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(Arrays.asList(args));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            lines = reader.lines().filter(line -> !line.isEmpty()).collect(Collectors.toList());
+        }
+        if (process.waitFor() != 0) {
+            throw new IOException("git " + String.join(" ", args) + " failed: " + String.join("\n", lines));
+        }
+        return lines;
+    }
+
+    private String classNameOf(String file) {
+        if (!file.endsWith(".java")) {
+            return null;
+        }
+        for (String root : sourceRoots) {
+            if (file.startsWith(root)) {
+                String relative = file.substring(root.length(), file.length() - ".java".length());
+                return relative.replace('/', '.');
+            }
+        }
+        return null;
+    }
+
+    private String testRoot() {
+        return sourceRoots.get(sourceRoots.size() - 1);
+    }
+
+    // Adds the references of every class under root; nested classes are folded into their top-level class
+    private static Set<String> readReferences(Path root, Map<String, Set<String>> references) throws IOException {
+        Set<String> classes = new HashSet<>();
+        if (!Files.isDirectory(root)) {
+            return classes;
+        }
+        List<Path> classFiles;
+        try (Stream<Path> files = Files.walk(root)) {
+            classFiles = files.filter(p -> p.toString().endsWith(".class")).collect(Collectors.toList());
+        }
+        for (Path classFile : classFiles) {
+            String internalName = root.relativize(classFile).toString().replace('\\', '/');
+            String className = topLevel(internalName.substring(0, internalName.length() - ".class".length()));
+            classes.add(className);
+            Set<String> target = references.computeIfAbsent(className, key -> new HashSet<>());
+            try (InputStream in = Files.newInputStream(classFile)) {
+                for (String referenced : constantPoolTypes(in)) {
+                    String dependency = topLevel(referenced);
+                    if (!dependency.equals(className)) {
+                        target.add(dependency);
+                    }
+                }
+            }
+        }
+        // Only keep references to classes compiled in this project
+        Set<String> known = references.keySet();
+        for (Set<String> dependencies : references.values()) {
+            dependencies.retainAll(known);
+        }
+        return classes;
+    }
+
+    private static String topLevel(String internalName) {
+        int nested = internalName.indexOf('$');
+        return (nested < 0 ? internalName : internalName.substring(0, nested)).replace('/', '.');
+    }
+
+    /**
+     * Collect the internal names of all types mentioned in a class file's constant pool,
+     * both class entries and types inside field and method descriptors
+     */
+    static Set<String> constantPoolTypes(InputStream classFile) throws IOException {
+        DataInputStream in = new DataInputStream(classFile);
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+        int count = in.readUnsignedShort();
+        String[] utf8 = new String[count];
+        List<Integer> classNameIndexes = new ArrayList<>();
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    utf8[i] = in.readUTF();
+                    break;
+                case 7:
+                    classNameIndexes.add(in.readUnsignedShort());
+                    break;
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    in.readUnsignedShort();
+                    break;
+                case 15:
+                    in.readUnsignedByte();
+                    in.readUnsignedShort();
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    in.readInt();
+                    break;
+                case 5:
+                case 6:
+                    in.readLong();
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        Set<String> types = new HashSet<>();
+        for (int index : classNameIndexes) {
+            String name = utf8[index];
+            if (name != null && !name.startsWith("[")) {
+                types.add(name);
+            }
+        }
+        for (String value : utf8) {
+            if (value != null && value.indexOf(';') >= 0) {
+                Matcher matcher = DESCRIPTOR_TYPE.matcher(value);
+                while (matcher.find()) {
+                    types.add(matcher.group(1));
+                }
+            }
+        }
+        return types;
+    }
+}
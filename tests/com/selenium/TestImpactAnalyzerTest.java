@@ -0,0 +1,111 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * JUnit test cases for TestImpactAnalyzer class
+ */
+@DisplayName("TestImpactAnalyzer Tests")
+public class TestImpactAnalyzerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final TestImpactAnalyzer analyzer = new TestImpactAnalyzer();
+
+    @Test
+    @DisplayName("Should read referenced types from the constant pool")
+    void testConstantPoolTypes() throws IOException {
+        try (InputStream in = LoginPage.class.getResourceAsStream("LoginPage.class")) {
+            Set<String> types = TestImpactAnalyzer.constantPoolTypes(in);
+            assertTrue(types.contains("com/selenium/BasePage"));
+            assertTrue(types.contains("org/openqa/selenium/By"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should index transitive dependencies of each test class")
+    void testIndex() throws IOException {
+        Path mainClasses = tempDir.resolve("classes");
+        Path testClasses = tempDir.resolve("test-classes");
+        copyClass(BasePage.class, mainClasses);
+        copyClass(LoginPage.class, mainClasses);
+        copyClass(TestUtils.class, mainClasses);
+        copyClass(LoginPageTest.class, testClasses);
+
+        Map<String, Set<String>> index = analyzer.index(mainClasses, testClasses);
+
+        assertEquals(Collections.singleton("com.selenium.LoginPageTest"), index.keySet());
+        Set<String> dependencies = index.get("com.selenium.LoginPageTest");
+        assertTrue(dependencies.contains("com.selenium.LoginPage"));
+        assertTrue(dependencies.contains("com.selenium.BasePage"));
+        assertFalse(dependencies.contains("com.selenium.TestUtils"));
+    }
+
+    @Test
+    @DisplayName("Should select only tests affected by changed files")
+    void testSelect() {
+        Map<String, Set<String>> index = sampleIndex();
+
+        assertEquals(new TreeSet<>(Arrays.asList("TestUtilsTest")),
+                analyzer.select(index, Arrays.asList("src/main/java/com/selenium/TestUtils.java")));
+        assertEquals(new TreeSet<>(Arrays.asList("BasePageTest", "LoginPageTest")),
+                analyzer.select(index, Arrays.asList("src/main/java/com/selenium/BasePage.java")));
+        assertEquals(new TreeSet<>(Arrays.asList("NewFeatureTest")),
+                analyzer.select(index, Arrays.asList("tests/com/selenium/NewFeatureTest.java")));
+        assertTrue(analyzer.select(index, Arrays.asList("src/main/java/com/selenium/Unused.java")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should select every test for build and unknown test-support changes")
+    void testSelectAll() {
+        Map<String, Set<String>> index = sampleIndex();
+
+        assertNull(analyzer.select(index, Arrays.asList("pom.xml")));
+        assertNull(analyzer.select(index, Arrays.asList("tests/com/selenium/LoginForm.java")));
+    }
+
+    @Test
+    @DisplayName("Should persist and reload the index")
+    void testIndexRoundTrip() throws IOException {
+        Path indexFile = tempDir.resolve("target/test-impact.idx");
+        Map<String, Set<String>> index = sampleIndex();
+        index.put("com.selenium.EmptyTest", new TreeSet<>());
+
+        TestImpactAnalyzer.writeIndex(index, indexFile);
+
+        assertEquals(index, TestImpactAnalyzer.readIndex(indexFile));
+        Files.write(indexFile, Arrays.asList("garbage"));
+        assertThrows(IOException.class, () -> TestImpactAnalyzer.readIndex(indexFile));
+    }
+
+    private static Map<String, Set<String>> sampleIndex() {
+        Map<String, Set<String>> index = new TreeMap<>();
+        index.put("com.selenium.TestUtilsTest", new TreeSet<>(Arrays.asList("com.selenium.TestUtils")));
+        index.put("com.selenium.BasePageTest", new TreeSet<>(Arrays.asList("com.selenium.BasePage")));
+        index.put("com.selenium.LoginPageTest",
+                new TreeSet<>(Arrays.asList("com.selenium.BasePage", "com.selenium.LoginPage")));
+        return index;
+    }
+
+    private static void copyClass(Class<?> type, Path root) throws IOException {
+        Path target = root.resolve(type.getName().replace('.', '/') + ".class");
+        Files.createDirectories(target.getParent());
+        try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+            Files.copy(in, target);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.selenium;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Converts streamed JSONL test reports into a JUnit XML report.
+ *
+ * Each input line is one finished test as written by StreamingReportListener: class, name,
+ * status (SUCCESSFUL, FAILED, ABORTED or SKIPPED), durationMs and, for failures, failureType
+ * and failure. The inputs are read twice, once for the totals that JUnit XML puts up front
+ * and once to stream the test cases, so memory use does not grow with the suite. All tests
+ * go into a single testsuite; CI servers group them by each testcase's classname.
+ *
+ * Usage: java com.selenium.TestReportConverter output.xml input.jsonl...
+ */
+public class TestReportConverter {
+
+    private static final Json JSON = new Json();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: TestReportConverter output.xml input.jsonl...");
+            System.exit(2);
+        }
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            inputs.add(Paths.get(args[i]));
+        }
+        toJUnitXml(inputs, Paths.get(args[0]), "selenium-tests");
+    }
+
+    /**
+     * Convert JSONL reports to JUnit XML
+     * @param inputs The JSONL reports, e.g. one per forked JVM
+     * @param output The XML file to write
+     * @param suiteName The name of the testsuite element
+     * @throws IOException if a report cannot be read or the XML cannot be written
+     */
+    public static void toJUnitXml(List<Path> inputs, Path output, String suiteName) throws IOException {
+        long[] totals = new long[5];
+        forEachRecord(inputs, record -> {
+            totals[0]++;
+            switch (kind(record)) {
+                case "failure":
+                    totals[1]++;
+                    break;
+                case "error":
+                    totals[2]++;
+                    break;
+                case "skipped":
+                    totals[3]++;
+                    break;
+                default:
+                    break;
+            }
+            totals[4] += number(record, "durationMs");
+        });
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(output)) {
+            try {
+                XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8");
+                xml.writeStartDocument("UTF-8", "1.0");
+                xml.writeCharacters("\n");
+                xml.writeStartElement("testsuites");
+                writeTotals(xml, totals);
+                xml.writeCharacters("\n  ");
+                xml.writeStartElement("testsuite");
+                xml.writeAttribute("name", suiteName);
+                writeTotals(xml, totals);
+                forEachRecord(inputs, record -> {
+                    try {
+                        writeTestCase(xml, record);
+                    } catch (XMLStreamException e) {
+                        throw new UncheckedIOException(new IOException("Cannot write " + output, e));
+                    }
+                });
+                xml.writeCharacters("\n  ");
+                xml.writeEndElement();
+                xml.writeCharacters("\n");
+                xml.writeEndElement();
+                xml.writeEndDocument();
+                xml.close();
+            } catch (XMLStreamException e) {
+                throw new IOException("Cannot write " + output, e);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static void writeTotals(XMLStreamWriter xml, long[] totals) throws XMLStreamException {
+        xml.writeAttribute("tests", String.valueOf(totals[0]));
+        xml.writeAttribute("failures", String.valueOf(totals[1]));
+        xml.writeAttribute("errors", String.valueOf(totals[2]));
+        xml.writeAttribute("skipped", String.valueOf(totals[3]));
+        xml.writeAttribute("time", seconds(totals[4]));
+    }
+
+    private static void writeTestCase(XMLStreamWriter xml, Map<String, Object> record) throws XMLStreamException {
+        xml.writeCharacters("\n    ");
+        String kind = kind(record);
+        boolean empty = kind.equals("passed");
+        if (empty) {
+            xml.writeEmptyElement("testcase");
+        } else {
+            xml.writeStartElement("testcase");
+        }
+        xml.writeAttribute("classname", string(record, "class"));
+        xml.writeAttribute("name", string(record, "name"));
+        xml.writeAttribute("time", seconds(number(record, "durationMs")));
+        if (empty) {
+            return;
+        }
+        String message = string(record, "failure");
+        if (kind.equals("skipped")) {
+            xml.writeEmptyElement("skipped");
+            xml.writeAttribute("message", message);
+        } else {
+            xml.writeStartElement(kind);
+            xml.writeAttribute("message", message);
+            xml.writeAttribute("type", string(record, "failureType"));
+            xml.writeCharacters(message);
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+    }
+
+    // Malformed lines, e.g. the last line of a killed fork, are skipped
+    private static void forEachRecord(List<Path> inputs, Consumer<Map<String, Object>> consumer) throws IOException {
+        for (Path input : inputs) {
+            try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    Map<String, Object> record;
+                    try {
+                        record = JSON.toType(line, Json.MAP_TYPE);
+                    } catch (JsonException e) {
+                        continue;
+                    }
+                    consumer.accept(record);
+                }
+            }
+        }
+    }
+
+    private static String kind(Map<String, Object> record) {
+        switch (string(record, "status")) {
+            case "FAILED":
+                String type = string(record, "failureType");
+                return type.endsWith("AssertionError") || type.endsWith("AssertionFailedError") ? "failure" : "error";
+            case "ABORTED":
+            case "SKIPPED":
+                return "skipped";
+            default:
+                return "passed";
+        }
+    }
+
+    private static String string(Map<String, Object> record, String key) {
+        Object value = record.get(key);
+        return value == null ? "" : value.toString();
+    }
+
+    private static long number(Map<String, Object> record, String key) {
+        Object value = record.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    private static String seconds(long millis) {
+        return String.format(Locale.ROOT, "%.3f", millis / 1000.0);
+    }
+}
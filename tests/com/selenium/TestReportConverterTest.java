@@ -0,0 +1,59 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * JUnit test cases for TestReportConverter class
+ */
+@DisplayName("TestReportConverter Tests")
+public class TestReportConverterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should convert streamed reports to JUnit XML")
+    void testConversion() throws IOException {
+        Path fork1 = tempDir.resolve("report-1.jsonl");
+        Path fork2 = tempDir.resolve("report-2.jsonl");
+        Files.write(fork1, Arrays.asList(
+                "{\"class\": \"com.selenium.LoginPageTest\",\"name\": \"testLogin\",\"status\": \"SUCCESSFUL\",\"durationMs\": 1500}",
+                "{\"class\": \"com.selenium.LoginPageTest\",\"name\": \"testError\",\"status\": \"FAILED\",\"durationMs\": 20,"
+                        + "\"failure\": \"expected: <a> but was: <b & c>\",\"failureType\": \"org.opentest4j.AssertionFailedError\"}",
+                "{\"class\": \"com.selenium.LoginPageTest\",\"name\": \"testCut"), StandardCharsets.UTF_8);
+        Files.write(fork2, Arrays.asList(
+                "{\"class\": \"com.selenium.BasePageTest\",\"name\": \"testWait\",\"status\": \"FAILED\",\"durationMs\": 10000,"
+                        + "\"failure\": \"timed out\",\"failureType\": \"org.openqa.selenium.TimeoutException\"}",
+                "",
+                "{\"class\": \"com.selenium.BasePageTest\",\"name\": \"testSkipped\",\"status\": \"SKIPPED\",\"durationMs\": 0,"
+                        + "\"failure\": \"disabled\"}"), StandardCharsets.UTF_8);
+        Path output = tempDir.resolve("xml/TEST-selenium.xml");
+
+        TestReportConverter.toJUnitXml(Arrays.asList(fork1, fork2), output, "suite");
+
+        String xml = new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+        assertTrue(xml.contains("<testsuites tests=\"4\" failures=\"1\" errors=\"1\" skipped=\"1\" time=\"11.520\">"), xml);
+        assertTrue(xml.contains("<testsuite name=\"suite\" tests=\"4\""), xml);
+        assertTrue(xml.contains("<testcase classname=\"com.selenium.LoginPageTest\" name=\"testLogin\" time=\"1.500\"/>"), xml);
+        assertTrue(xml.contains("<failure message=\"expected: &lt;a&gt; but was: &lt;b &amp; c&gt;\" "
+                + "type=\"org.opentest4j.AssertionFailedError\">"), xml);
+        assertTrue(xml.contains("<error message=\"timed out\" type=\"org.openqa.selenium.TimeoutException\">timed out</error>"), xml);
+        assertTrue(xml.contains("<skipped message=\"disabled\"/>"), xml);
+        assertFalse(xml.contains("testCut"));
+    }
+
+    @Test
+    @DisplayName("Should fail for missing input")
+    void testMissingInput() {
+        assertThrows(IOException.class, () -> TestReportConverter.toJUnitXml(
+                Arrays.asList(tempDir.resolve("missing.jsonl")), tempDir.resolve("out.xml"), "suite"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.selenium;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.openqa.selenium.WebDriver;
+import java.util.function.Supplier;
+
+/**
+ * JUnit 5 extension that hands each test its own isolated WebDriver.
+ *
+ * The driver is created lazily when a test declares a WebDriver parameter and is stored in
+ * the test's own extension store, so concurrent tests never share a session. It is quit
+ * when the test finishes, whatever the outcome.
+ *
+ * Use with @ExtendWith(WebDriverExtension.class) to create drivers through WebDriverFactory
+ * (browser and headless mode come from the "browser" and "headless" system properties),
+ * or register an instance with a custom supplier via @RegisterExtension.
+ *
+ * With -Dbrowser.shared=true (or the shared constructor flag) each worker thread keeps one
+ * browser for the whole run and every test gets an isolated context in it from
+ * SharedBrowser instead of a new driver. Tests must then not quit the injected driver.
+ * Only Chromium browsers can be shared; others still start a driver per test.
+ */
+public class WebDriverExtension implements ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(WebDriverExtension.class);
+
+    private final Supplier<WebDriver> driverSupplier;
+    private final boolean shared;
+
+    public WebDriverExtension() {
+        this(() -> WebDriverFactory.createDriver(
+                WebDriverFactory.BrowserType.valueOf(System.getProperty("browser", "CHROME").toUpperCase()),
+                Boolean.parseBoolean(System.getProperty("headless", "true"))),
+                Boolean.getBoolean("browser.shared"));
+    }
+
+    public WebDriverExtension(Supplier<WebDriver> driverSupplier) {
+        this(driverSupplier, false);
+    }
+
+    /**
+     * Create an extension
+     * @param driverSupplier Supplier that starts a new browser
+     * @param shared Whether tests get isolated contexts in a shared browser instead of their own driver
+     */
+    public WebDriverExtension(Supplier<WebDriver> driverSupplier, boolean shared) {
+        if (driverSupplier == null) {
+            throw new IllegalArgumentException("driverSupplier must not be null");
+        }
+        this.driverSupplier = driverSupplier;
+        this.shared = shared;
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == WebDriver.class
+                && extensionContext.getTestMethod().isPresent();
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        DriverResource resource = extensionContext.getStore(NAMESPACE)
+                .getOrComputeIfAbsent(DriverResource.class, key -> shared
+                        ? new DriverResource(sharedBrowser(extensionContext).openContext())
+                        : new DriverResource(driverSupplier.get()), DriverResource.class);
+        if (resource.driver == null) {
+            throw new ParameterResolutionException("Driver supplier returned null");
+        }
+        return resource.driver;
+    }
+
+    // Kept in the root store so the browsers live until the whole run finishes
+    private SharedBrowser sharedBrowser(ExtensionContext extensionContext) {
+        return extensionContext.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(this,
+                        key -> new SharedBrowserResource(new SharedBrowser(driverSupplier)), SharedBrowserResource.class)
+                .browser;
+    }
+
+    /**
+     * Store entry that quits its driver, or disposes its isolated context, when the owning
+     * test's context is closed
+     */
+    private static class DriverResource implements ExtensionContext.Store.CloseableResource {
+        private final WebDriver driver;
+        private final SharedBrowser.IsolatedContext context;
+
+        DriverResource(WebDriver driver) {
+            this.driver = driver;
+            this.context = null;
+        }
+
+        DriverResource(SharedBrowser.IsolatedContext context) {
+            this.driver = context.getDriver();
+            this.context = context;
+        }
+
+        @Override
+        public void close() {
+            if (context != null) {
+                context.close();
+            } else {
+                WebDriverFactory.quitDriver(driver);
+            }
+        }
+    }
+
+    /**
+     * Root store entry that quits the shared browsers at the end of the run
+     */
+    private static class SharedBrowserResource implements ExtensionContext.Store.CloseableResource {
+        private final SharedBrowser browser;
+
+        SharedBrowserResource(SharedBrowser browser) {
+            this.browser = browser;
+        }
+
+        @Override
+        public void close() {
+            browser.close();
+        }
+    }
+}
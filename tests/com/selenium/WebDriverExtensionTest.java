@@ -0,0 +1,55 @@
+package com.selenium;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import org.openqa.selenium.WebDriver;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * JUnit test cases for WebDriverExtension class
+ */
+@DisplayName("WebDriverExtension Tests")
+public class WebDriverExtensionTest {
+
+    private static final List<WebDriver> CREATED = new CopyOnWriteArrayList<>();
+
+    @RegisterExtension
+    static WebDriverExtension drivers = new WebDriverExtension(() -> {
+        WebDriver driver = mock(WebDriver.class);
+        CREATED.add(driver);
+        return driver;
+    });
+
+    @AfterAll
+    static void verifyDriversQuit() {
+        assertEquals(2, CREATED.size());
+        for (WebDriver driver : CREATED) {
+            verify(driver).quit();
+        }
+    }
+
+    @Test
+    @DisplayName("Should inject the same driver for repeated parameters in one test")
+    void testSingleDriverPerTest(WebDriver first, WebDriver second) {
+        assertNotNull(first);
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Should give each test its own driver")
+    void testIsolatedDriver(WebDriver driver) {
+        assertNotNull(driver);
+        verify(driver, never()).quit();
+    }
+
+    @Test
+    @DisplayName("Should reject null driver supplier")
+    void testNullSupplier() {
+        assertThrows(IllegalArgumentException.class, () -> new WebDriverExtension(null));
+    }
+}